@@ -0,0 +1,236 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Array-backed linked list skeleton: the items are slots of parallel arrays,
+ * the links are slot numbers in int[] next / int[] prev (-1 is the null link),
+ * removed slots are reused through a free-list.
+ * <p>
+ * Subclasses store the values in their own array indexed by slot.
+ *
+ * @author Matyas Ember
+ */
+abstract class AbstractArrayLinkedList {
+
+    static final int NONE = -1;
+
+    static final int DEFAULT_CAPACITY = 16;
+
+    int[] next;
+
+    int[] prev;
+
+    int header = NONE;
+
+    int tail = NONE;
+
+    int size = 0;
+
+    /**
+     * Slots below used have been handed out at least once, the free ones are chained from freeHead.
+     */
+    private int used = 0;
+
+    private int freeHead = NONE;
+
+    AbstractArrayLinkedList(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        next = new int[capacity];
+        prev = new int[capacity];
+    }
+
+    /**
+     * Grows the value array to the new capacity.
+     */
+    abstract void resizeValues(int capacity);
+
+    /**
+     * Drops the values of the slots below used, the slots above it have never held a value.
+     */
+    abstract void clearValues(int used);
+
+    /**
+     * Releases the value of a removed slot.
+     */
+    void releaseValue(int slot) {
+    }
+
+    public void clear() {
+        clearValues(used);
+        header = NONE;
+        tail = NONE;
+        size = 0;
+        used = 0;
+        freeHead = NONE;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void removeFirst() {
+        if (header != NONE) {
+            unlink(header);
+        }
+    }
+
+    public void removeLast() {
+        if (tail != NONE) {
+            unlink(tail);
+        }
+    }
+
+    /**
+     * Reverses the list in O(1): swapping the next and prev arrays reverses every link.
+     */
+    public void reverse() {
+        int[] links = next;
+        next = prev;
+        prev = links;
+
+        int first = header;
+        header = tail;
+        tail = first;
+    }
+
+    public void moveLastToFront() {
+        if (size < 2) {
+            return;
+        }
+
+        int last = tail;
+
+        tail = prev[last];
+        next[tail] = NONE;
+
+        prev[last] = NONE;
+        next[last] = header;
+        prev[header] = last;
+        header = last;
+    }
+
+    int allocate() {
+        int slot;
+
+        if (freeHead != NONE) {
+            slot = freeHead;
+            freeHead = next[slot];
+        } else {
+            if (used == next.length) {
+                int capacity = next.length + (next.length >> 1) + 1;
+                next = Arrays.copyOf(next, capacity);
+                prev = Arrays.copyOf(prev, capacity);
+                resizeValues(capacity);
+            }
+
+            slot = used++;
+        }
+
+        return slot;
+    }
+
+    void linkLast(int slot) {
+        prev[slot] = tail;
+        next[slot] = NONE;
+
+        if (tail != NONE) {
+            next[tail] = slot;
+        } else {
+            header = slot;
+        }
+
+        tail = slot;
+        size++;
+    }
+
+    void linkFirst(int slot) {
+        prev[slot] = NONE;
+        next[slot] = header;
+
+        if (header != NONE) {
+            prev[header] = slot;
+        } else {
+            tail = slot;
+        }
+
+        header = slot;
+        size++;
+    }
+
+    void unlink(int slot) {
+        int before = prev[slot];
+        int after = next[slot];
+
+        if (before != NONE) {
+            next[before] = after;
+        } else {
+            header = after;
+        }
+
+        if (after != NONE) {
+            prev[after] = before;
+        } else {
+            tail = before;
+        }
+
+        size--;
+        releaseValue(slot);
+
+        // the free chain is kept in both arrays, so reverse() can swap them
+        next[slot] = freeHead;
+        prev[slot] = freeHead;
+        freeHead = slot;
+    }
+
+    /**
+     * Slot of the index, walking from the nearer end.
+     */
+    int slot(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        int slot;
+
+        if (index < size / 2) {
+            slot = header;
+
+            for (int i = 0; i < index; i++) {
+                slot = next[slot];
+            }
+        } else {
+            slot = tail;
+
+            for (int i = size - 1; i > index; i--) {
+                slot = prev[slot];
+            }
+        }
+
+        return slot;
+    }
+
+    int firstSlot() {
+        if (header == NONE) {
+            throw new NoSuchElementException();
+        }
+
+        return header;
+    }
+
+    int lastSlot() {
+        if (tail == NONE) {
+            throw new NoSuchElementException();
+        }
+
+        return tail;
+    }
+}
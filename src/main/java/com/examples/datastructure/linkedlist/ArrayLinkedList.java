@@ -0,0 +1,201 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Array-backed linked list: the data is stored in an Object[], the links in parallel int[] next / int[] prev,
+ * removed slots are reused through a free-list. There is no ListItem object per element,
+ * and clear() nulls the slots handed out since the last clear (O(slots used), not O(capacity))
+ * instead of unlinking the items one by one.
+ * <p>
+ * Operations (same semantics as LinkedList):
+ * <p>
+ * add
+ * addFirst
+ * addLast
+ * clear
+ * contains
+ * get
+ * getFirst
+ * getLast
+ * indexOf
+ * isEmpty
+ * lastIndexOf
+ * remove
+ * removeFirst
+ * removeFirstOccurrence
+ * removeLast
+ * removeLastOccurrence
+ * size
+ * iterator
+ * <p>
+ * Bonus operations:
+ * reverse
+ * moveLastToFront
+ * <p>
+ * Null elements are permitted, the searches compare with Objects.equals.
+ *
+ * @author Matyas Ember
+ */
+public class ArrayLinkedList<T extends Comparable<T>> extends AbstractArrayLinkedList implements Iterable<T> {
+
+    private Object[] values;
+
+    public ArrayLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayLinkedList(int capacity) {
+        super(capacity);
+        values = new Object[capacity];
+    }
+
+    public boolean add(T value) {
+        int slot = allocate();
+        values[slot] = value;
+        linkLast(slot);
+
+        return true;
+    }
+
+    public void addFirst(T value) {
+        int slot = allocate();
+        values[slot] = value;
+        linkFirst(slot);
+    }
+
+    public void addLast(T value) {
+        add(value);
+    }
+
+    public boolean contains(T value) {
+        return indexOf(value) >= 0;
+    }
+
+    public T get(int index) {
+        return value(slot(index));
+    }
+
+    public T getFirst() {
+        return header != NONE ? value(header) : null;
+    }
+
+    public T getLast() {
+        return tail != NONE ? value(tail) : null;
+    }
+
+    public int indexOf(T value) {
+        int i = 0;
+
+        for (int slot = header; slot != NONE; slot = next[slot]) {
+            if (Objects.equals(values[slot], value)) {
+                return i;
+            }
+
+            i++;
+        }
+
+        return -1;
+    }
+
+    public int lastIndexOf(T value) {
+        int i = size - 1;
+
+        for (int slot = tail; slot != NONE; slot = prev[slot]) {
+            if (Objects.equals(values[slot], value)) {
+                return i;
+            }
+
+            i--;
+        }
+
+        return -1;
+    }
+
+    public T remove(int index) {
+        int slot = slot(index);
+        T value = value(slot);
+        unlink(slot);
+
+        return value;
+    }
+
+    public boolean removeFirstOccurrence(T value) {
+        for (int slot = header; slot != NONE; slot = next[slot]) {
+            if (Objects.equals(values[slot], value)) {
+                unlink(slot);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public boolean removeLastOccurrence(T value) {
+        for (int slot = tail; slot != NONE; slot = prev[slot]) {
+            if (Objects.equals(values[slot], value)) {
+                unlink(slot);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            private int slot = header;
+
+            @Override
+            public boolean hasNext() {
+                return slot != NONE;
+            }
+
+            @Override
+            public T next() {
+                if (slot == NONE) {
+                    throw new NoSuchElementException();
+                }
+
+                T value = value(slot);
+                slot = ArrayLinkedList.this.next[slot];
+
+                return value;
+            }
+        };
+    }
+
+    public void print() {
+        System.out.println();
+
+        for (T value : this) {
+            System.out.print(value + " ");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T value(int slot) {
+        return (T) values[slot];
+    }
+
+    @Override
+    void resizeValues(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void clearValues(int used) {
+        // only the slots handed out since the last clear can hold a reference
+        Arrays.fill(values, 0, used, null);
+    }
+
+    @Override
+    void releaseValue(int slot) {
+        values[slot] = null;
+    }
+}
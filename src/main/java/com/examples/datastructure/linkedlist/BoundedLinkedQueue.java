@@ -0,0 +1,556 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded blocking FIFO queue on a ListItem chain with two locks (two-lock queue):
+ * <p>
+ * The chain starts with a dummy item (header), the first element is in header.next, only the next links are used.
+ * Producers append at the tail under the put lock, consumers unlink after the header under the take lock,
+ * so a producer and a consumer never wait for each other's lock.
+ * The element count is an AtomicInteger shared by the two sides, every update of it publishes
+ * the links written before it; a side signals the other side's condition only on the empty/full edge.
+ * <p>
+ * Operations (java.util.concurrent.BlockingQueue):
+ * <p>
+ * put
+ * offer (with and without timeout)
+ * take
+ * poll (with and without timeout)
+ * peek
+ * drainTo
+ * remove
+ * contains
+ * size
+ * remainingCapacity
+ * iterator
+ * <p>
+ * drainTo detaches up to max elements as one run of items under a single acquisition of the take lock
+ * (the last detached item becomes the new header), the run is handed to the collection after the lock is released.
+ * If the collection throws, the elements not yet added are lost, as the BlockingQueue contract allows.
+ * The iterator works on a copy taken under both locks. Null values are not permitted.
+ *
+ * @author Matyas Ember
+ */
+public class BoundedLinkedQueue<T extends Comparable<T>> extends AbstractQueue<T> implements BlockingQueue<T> {
+
+    private final int capacity;
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    private final ReentrantLock takeLock = new ReentrantLock();
+
+    private final Condition notEmpty = takeLock.newCondition();
+
+    private final ReentrantLock putLock = new ReentrantLock();
+
+    private final Condition notFull = putLock.newCondition();
+
+    /**
+     * Dummy item before the first element, guarded by the take lock.
+     */
+    private ListItem<T> header = new ListItem<>(null);
+
+    /**
+     * Last item of the chain, guarded by the put lock.
+     */
+    private ListItem<T> tail = header;
+
+    public BoundedLinkedQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        this.capacity = capacity;
+    }
+
+    /**
+     * Appends the value, waits while the queue is full.
+     */
+    @Override
+    public void put(T value) throws InterruptedException {
+        ListItem<T> item = new ListItem<>(Objects.requireNonNull(value));
+        int before;
+
+        putLock.lockInterruptibly();
+
+        try {
+            while (count.get() == capacity) {
+                notFull.await();
+            }
+
+            before = enqueue(item);
+        } finally {
+            putLock.unlock();
+        }
+
+        if (before == 0) {
+            signalNotEmpty();
+        }
+    }
+
+    /**
+     * Appends the value, waits at most the timeout while the queue is full, returns false if it stayed full.
+     */
+    @Override
+    public boolean offer(T value, long timeout, TimeUnit unit) throws InterruptedException {
+        ListItem<T> item = new ListItem<>(Objects.requireNonNull(value));
+        long nanos = unit.toNanos(timeout);
+        int before;
+
+        putLock.lockInterruptibly();
+
+        try {
+            while (count.get() == capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+
+                nanos = notFull.awaitNanos(nanos);
+            }
+
+            before = enqueue(item);
+        } finally {
+            putLock.unlock();
+        }
+
+        if (before == 0) {
+            signalNotEmpty();
+        }
+
+        return true;
+    }
+
+    /**
+     * Appends the value if there is room, returns false without waiting if the queue is full.
+     */
+    @Override
+    public boolean offer(T value) {
+        Objects.requireNonNull(value);
+
+        if (count.get() == capacity) {
+            return false;
+        }
+
+        int before = -1;
+
+        putLock.lock();
+
+        try {
+            if (count.get() < capacity) {
+                before = enqueue(new ListItem<>(value));
+            }
+        } finally {
+            putLock.unlock();
+        }
+
+        if (before == 0) {
+            signalNotEmpty();
+        }
+
+        return before >= 0;
+    }
+
+    /**
+     * Removes and returns the first element, waits while the queue is empty.
+     */
+    @Override
+    public T take() throws InterruptedException {
+        T value;
+        int before;
+
+        takeLock.lockInterruptibly();
+
+        try {
+            while (count.get() == 0) {
+                notEmpty.await();
+            }
+
+            value = dequeue();
+            before = count.getAndDecrement();
+
+            if (before > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (before == capacity) {
+            signalNotFull();
+        }
+
+        return value;
+    }
+
+    /**
+     * Removes and returns the first element, waits at most the timeout while the queue is empty,
+     * returns null if it stayed empty.
+     */
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        T value;
+        int before;
+
+        takeLock.lockInterruptibly();
+
+        try {
+            while (count.get() == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+
+            value = dequeue();
+            before = count.getAndDecrement();
+
+            if (before > 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (before == capacity) {
+            signalNotFull();
+        }
+
+        return value;
+    }
+
+    /**
+     * Removes and returns the first element, null without waiting if the queue is empty.
+     */
+    @Override
+    public T poll() {
+        if (count.get() == 0) {
+            return null;
+        }
+
+        T value = null;
+        int before = 0;
+
+        takeLock.lock();
+
+        try {
+            if (count.get() > 0) {
+                value = dequeue();
+                before = count.getAndDecrement();
+
+                if (before > 1) {
+                    notEmpty.signal();
+                }
+            }
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (before == capacity) {
+            signalNotFull();
+        }
+
+        return value;
+    }
+
+    @Override
+    public T peek() {
+        if (count.get() == 0) {
+            return null;
+        }
+
+        takeLock.lock();
+
+        try {
+            ListItem<T> first = header.getNext();
+
+            return first != null ? first.getData() : null;
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Moves up to max elements into the collection, detaching them from the chain in one run.
+     */
+    @Override
+    public int drainTo(Collection<? super T> collection, int max) {
+        Objects.requireNonNull(collection);
+
+        if (collection == this) {
+            throw new IllegalArgumentException("A queue can not be drained into itself");
+        }
+
+        if (max <= 0) {
+            return 0;
+        }
+
+        ListItem<T> first;
+        ListItem<T> last;
+        T lastValue;
+        int drained;
+        int before;
+
+        takeLock.lock();
+
+        try {
+            drained = Math.min(max, count.get());
+
+            if (drained == 0) {
+                return 0;
+            }
+
+            first = header.getNext();
+            last = header;
+
+            for (int i = 0; i < drained; i++) {
+                last = last.getNext();
+            }
+
+            // the last detached item stays in the chain as the new header
+            lastValue = last.getData();
+            last.setData(null);
+            header.setNext(null);
+            header = last;
+
+            before = count.getAndAdd(-drained);
+
+            if (before > drained) {
+                notEmpty.signal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+
+        if (before == capacity) {
+            signalNotFull();
+        }
+
+        for (ListItem<T> act = first; act != last; act = act.getNext()) {
+            collection.add(act.getData());
+        }
+
+        collection.add(lastValue);
+
+        return drained;
+    }
+
+    /**
+     * Removes the first occurrence of the value, holding both locks.
+     */
+    @Override
+    public boolean remove(Object value) {
+        if (value == null) {
+            return false;
+        }
+
+        fullyLock();
+
+        try {
+            for (ListItem<T> prev = header, act = prev.getNext(); act != null; prev = act, act = act.getNext()) {
+                if (value.equals(act.getData())) {
+                    prev.setNext(act.getNext());
+
+                    if (act == tail) {
+                        tail = prev;
+                    }
+
+                    if (count.getAndDecrement() == capacity) {
+                        notFull.signal();
+                    }
+
+                    return true;
+                }
+            }
+
+            return false;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Object value) {
+        if (value == null) {
+            return false;
+        }
+
+        fullyLock();
+
+        try {
+            for (ListItem<T> act = header.getNext(); act != null; act = act.getNext()) {
+                if (value.equals(act.getData())) {
+                    return true;
+                }
+            }
+
+            return false;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        fullyLock();
+
+        try {
+            header.setNext(null);
+            tail = header;
+
+            if (count.getAndSet(0) == capacity) {
+                notFull.signal();
+            }
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - count.get();
+    }
+
+    /**
+     * Iterator over a copy of the elements taken under both locks, its remove removes the first occurrence.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            private final T[] values = snapshot();
+
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < values.length;
+            }
+
+            @Override
+            public T next() {
+                if (next == values.length) {
+                    throw new NoSuchElementException();
+                }
+
+                return values[next++];
+            }
+
+            @Override
+            public void remove() {
+                if (next == 0) {
+                    throw new IllegalStateException();
+                }
+
+                BoundedLinkedQueue.this.remove(values[next - 1]);
+            }
+        };
+    }
+
+    public void print() {
+        System.out.println();
+
+        for (T value : this) {
+            System.out.print(value + " ");
+        }
+    }
+
+    /**
+     * Links the item after the tail (put lock held), returns the count before.
+     */
+    private int enqueue(ListItem<T> item) {
+        tail.setNext(item);
+        tail = item;
+
+        int before = count.getAndIncrement();
+
+        if (before + 1 < capacity) {
+            notFull.signal();
+        }
+
+        return before;
+    }
+
+    /**
+     * Unlinks the first element (take lock held, queue not empty): its item becomes the new header.
+     */
+    private T dequeue() {
+        ListItem<T> first = header.getNext();
+        T value = first.getData();
+
+        first.setData(null);
+        header.setNext(null);
+        header = first;
+
+        return value;
+    }
+
+    private void signalNotEmpty() {
+        takeLock.lock();
+
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    private void signalNotFull() {
+        putLock.lock();
+
+        try {
+            notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] snapshot() {
+        fullyLock();
+
+        try {
+            Comparable<?>[] values = new Comparable<?>[count.get()];
+            int i = 0;
+
+            for (ListItem<T> act = header.getNext(); act != null; act = act.getNext()) {
+                values[i++] = act.getData();
+            }
+
+            return (T[]) values;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    private void fullyLock() {
+        putLock.lock();
+        takeLock.lock();
+    }
+
+    private void fullyUnlock() {
+        takeLock.unlock();
+        putLock.unlock();
+    }
+}
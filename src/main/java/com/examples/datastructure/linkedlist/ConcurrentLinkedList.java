@@ -0,0 +1,244 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+
+/**
+ * Lock-free linked list for multiple producers and consumers (Harris-style):
+ * <p>
+ * The items hang from a sentinel header and are linked by CAS. An item is removed in two steps:
+ * first the mark bit of its next link is set (logical deletion, the linearization point),
+ * then it is unlinked by CAS on its predecessor's link: by the removing thread, or by any walk passing it
+ * (contains, size, isEmpty, the removals and add help like this). Nothing is ever linked after a marked item,
+ * so a marked item stays deleted and its links only point forward.
+ * <p>
+ * Operations:
+ * <p>
+ * add
+ * addFirst
+ * addLast
+ * contains
+ * isEmpty
+ * removeFirst
+ * removeFirstOccurrence
+ * removeLast
+ * size
+ * <p>
+ * Every operation is lock-free, a thread stalled anywhere can not block the others.
+ * add and addFirst take effect at the CAS that links the item, the removals at the CAS that marks it.
+ * removeFirst and removeFirstOccurrence mark the first live match their walk reaches, that item was the first match
+ * when the walk passed it; an addFirst overlapping the call may link a newer item in front of it
+ * (as in java.util.concurrent.ConcurrentLinkedDeque), calls that do not overlap keep the LIFO/FIFO order.
+ * <p>
+ * The list is singly linked: add starts from a tail hint, but removeLast walks the chain.
+ * size counts the live items, so it is O(n) and only a snapshot under concurrent modification.
+ * Null values are not permitted.
+ *
+ * @author Matyas Ember
+ */
+public class ConcurrentLinkedList<T extends Comparable<T>> {
+
+    private final Node<T> header = new Node<>(null);
+
+    /**
+     * Recently appended item, add starts searching for the end from here.
+     */
+    private volatile Node<T> tailHint = header;
+
+    public boolean add(T value) {
+        Node<T> item = new Node<>(Objects.requireNonNull(value));
+
+        while (true) {
+            Node<T> last = findLast();
+
+            if (last.next.compareAndSet(null, item, false, false)) {
+                tailHint = item;
+                return true;
+            }
+        }
+    }
+
+    public void addFirst(T value) {
+        Node<T> item = new Node<>(Objects.requireNonNull(value));
+
+        while (true) {
+            Node<T> first = header.next.getReference();
+
+            item.next.set(first, false);
+
+            if (header.next.compareAndSet(first, item, false, false)) {
+                return;
+            }
+        }
+    }
+
+    public void addLast(T value) {
+        add(value);
+    }
+
+    public boolean contains(T value) {
+        for (Node<T> act = nextLive(header); act != null; act = nextLive(act)) {
+            if (act.data.equals(value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return nextLive(header) == null;
+    }
+
+    /**
+     * Removes the first element, returns it or null if the list is empty.
+     */
+    public T removeFirst() {
+        Node<T> removed = removeFirstMatch(null);
+
+        return removed != null ? removed.data : null;
+    }
+
+    public boolean removeFirstOccurrence(T value) {
+        return removeFirstMatch(Objects.requireNonNull(value)) != null;
+    }
+
+    /**
+     * Removes the last element, returns it or null if the list is empty.
+     */
+    public T removeLast() {
+        while (true) {
+            Node<T> last = null;
+
+            for (Node<T> act = nextLive(header); act != null; act = nextLive(act)) {
+                last = act;
+            }
+
+            if (last == null) {
+                return null;
+            }
+
+            boolean[] marked = new boolean[1];
+            Node<T> next = last.next.get(marked);
+
+            // only deleted items may follow, they can not get a live successor,
+            // so the CAS succeeds only while last is still the last live item
+            if (!marked[0] && onlyDeletedFrom(next) && last.next.compareAndSet(next, next, false, true)) {
+                return last.data;
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+
+        for (Node<T> act = nextLive(header); act != null; act = nextLive(act)) {
+            size++;
+        }
+
+        return size;
+    }
+
+    /**
+     * Marks the first live item equal to the value (any item for null), returns it or null if there is none.
+     */
+    private Node<T> removeFirstMatch(T value) {
+        Node<T> pred = header;
+        boolean[] marked = new boolean[1];
+
+        for (Node<T> act = nextLive(pred); act != null; pred = act, act = nextLive(act)) {
+            if (value != null && !act.data.equals(value)) {
+                continue;
+            }
+
+            while (true) {
+                Node<T> next = act.next.get(marked);
+
+                if (marked[0]) {
+                    // removed by another thread, the walk goes on from it: its link only points forward
+                    break;
+                }
+
+                if (act.next.compareAndSet(next, next, false, true)) {
+                    pred.next.compareAndSet(act, next, false, false);
+                    return act;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * First live item after pred, the deleted items between them are unlinked by CAS on the way.
+     * A failed CAS (pred deleted meanwhile) leaves them for a later walk.
+     */
+    private static <E> Node<E> nextLive(Node<E> pred) {
+        Node<E> act = pred.next.getReference();
+
+        while (act != null && act.isDeleted()) {
+            Node<E> next = act.next.getReference();
+
+            pred.next.compareAndSet(act, next, false, false);
+            act = next;
+        }
+
+        return act;
+    }
+
+    private static <E> boolean onlyDeletedFrom(Node<E> item) {
+        for (Node<E> act = item; act != null; act = act.next.getReference()) {
+            if (!act.isDeleted()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Item with a null next link (possibly the header), deleted items are unlinked on the way.
+     */
+    private Node<T> findLast() {
+        Node<T> pred = tailHint;
+
+        if (pred.isDeleted()) {
+            pred = header;
+        }
+
+        boolean[] marked = new boolean[1];
+
+        while (true) {
+            Node<T> act = pred.next.get(marked);
+
+            if (marked[0]) {
+                // pred was deleted under us, nothing can be appended to it
+                pred = header;
+            } else if (act == null) {
+                return pred;
+            } else if (act.isDeleted()) {
+                pred.next.compareAndSet(act, act.next.getReference(), false, false);
+            } else {
+                pred = act;
+            }
+        }
+    }
+
+    /**
+     * Node: list element with an atomic next link, the mark bit of the link means the node is deleted.
+     */
+    private static final class Node<T> {
+
+        private final T data;
+
+        private final AtomicMarkableReference<Node<T>> next = new AtomicMarkableReference<>(null, false);
+
+        private Node(T data) {
+            this.data = data;
+        }
+
+        private boolean isDeleted() {
+            return next.isMarked();
+        }
+    }
+}
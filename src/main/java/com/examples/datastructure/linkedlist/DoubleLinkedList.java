@@ -0,0 +1,177 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Linked list of primitive double values without boxing:
+ * the values and the links are stored in arrays, adding an element allocates no object
+ * (apart from amortized array growth).
+ * Values are compared like Double.equals, so NaN is found and 0.0 differs from -0.0.
+ * <p>
+ * Operations (same semantics as LinkedList):
+ * <p>
+ * add
+ * addFirst
+ * addLast
+ * clear
+ * contains
+ * get
+ * getFirst
+ * getLast
+ * indexOf
+ * isEmpty
+ * lastIndexOf
+ * remove
+ * removeFirst
+ * removeFirstOccurrence
+ * removeLast
+ * removeLastOccurrence
+ * size
+ * forEach
+ * toArray
+ * <p>
+ * Bonus operations:
+ * reverse
+ * moveLastToFront
+ *
+ * @author Matyas Ember
+ */
+public class DoubleLinkedList extends AbstractArrayLinkedList {
+
+    private double[] values;
+
+    public DoubleLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DoubleLinkedList(int capacity) {
+        super(capacity);
+        values = new double[capacity];
+    }
+
+    public boolean add(double value) {
+        int slot = allocate();
+        values[slot] = value;
+        linkLast(slot);
+
+        return true;
+    }
+
+    public void addFirst(double value) {
+        int slot = allocate();
+        values[slot] = value;
+        linkFirst(slot);
+    }
+
+    public void addLast(double value) {
+        add(value);
+    }
+
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }
+
+    public double get(int index) {
+        return values[slot(index)];
+    }
+
+    public double getFirst() {
+        return values[firstSlot()];
+    }
+
+    public double getLast() {
+        return values[lastSlot()];
+    }
+
+    public int indexOf(double value) {
+        int i = 0;
+
+        for (int slot = header; slot != NONE; slot = next[slot]) {
+            if (Double.compare(values[slot], value) == 0) {
+                return i;
+            }
+
+            i++;
+        }
+
+        return -1;
+    }
+
+    public int lastIndexOf(double value) {
+        int i = size - 1;
+
+        for (int slot = tail; slot != NONE; slot = prev[slot]) {
+            if (Double.compare(values[slot], value) == 0) {
+                return i;
+            }
+
+            i--;
+        }
+
+        return -1;
+    }
+
+    public double remove(int index) {
+        int slot = slot(index);
+        double value = values[slot];
+        unlink(slot);
+
+        return value;
+    }
+
+    public boolean removeFirstOccurrence(double value) {
+        for (int slot = header; slot != NONE; slot = next[slot]) {
+            if (Double.compare(values[slot], value) == 0) {
+                unlink(slot);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public boolean removeLastOccurrence(double value) {
+        for (int slot = tail; slot != NONE; slot = prev[slot]) {
+            if (Double.compare(values[slot], value) == 0) {
+                unlink(slot);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public void forEach(DoubleConsumer action) {
+        for (int slot = header; slot != NONE; slot = next[slot]) {
+            action.accept(values[slot]);
+        }
+    }
+
+    public double[] toArray() {
+        double[] array = new double[size];
+        int i = 0;
+
+        for (int slot = header; slot != NONE; slot = next[slot]) {
+            array[i++] = values[slot];
+        }
+
+        return array;
+    }
+
+    public void print() {
+        System.out.println();
+
+        forEach(value -> System.out.print(value + " "));
+    }
+
+    @Override
+    void resizeValues(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void clearValues(int used) {
+        // primitive values hold no references, the slots are simply overwritten
+    }
+}
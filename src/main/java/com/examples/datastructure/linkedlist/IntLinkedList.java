@@ -0,0 +1,176 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Linked list of primitive int values without boxing:
+ * the values and the links are stored in arrays, adding an element allocates no object
+ * (apart from amortized array growth).
+ * <p>
+ * Operations (same semantics as LinkedList):
+ * <p>
+ * add
+ * addFirst
+ * addLast
+ * clear
+ * contains
+ * get
+ * getFirst
+ * getLast
+ * indexOf
+ * isEmpty
+ * lastIndexOf
+ * remove
+ * removeFirst
+ * removeFirstOccurrence
+ * removeLast
+ * removeLastOccurrence
+ * size
+ * forEach
+ * toArray
+ * <p>
+ * Bonus operations:
+ * reverse
+ * moveLastToFront
+ *
+ * @author Matyas Ember
+ */
+public class IntLinkedList extends AbstractArrayLinkedList {
+
+    private int[] values;
+
+    public IntLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntLinkedList(int capacity) {
+        super(capacity);
+        values = new int[capacity];
+    }
+
+    public boolean add(int value) {
+        int slot = allocate();
+        values[slot] = value;
+        linkLast(slot);
+
+        return true;
+    }
+
+    public void addFirst(int value) {
+        int slot = allocate();
+        values[slot] = value;
+        linkFirst(slot);
+    }
+
+    public void addLast(int value) {
+        add(value);
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    public int get(int index) {
+        return values[slot(index)];
+    }
+
+    public int getFirst() {
+        return values[firstSlot()];
+    }
+
+    public int getLast() {
+        return values[lastSlot()];
+    }
+
+    public int indexOf(int value) {
+        int i = 0;
+
+        for (int slot = header; slot != NONE; slot = next[slot]) {
+            if (values[slot] == value) {
+                return i;
+            }
+
+            i++;
+        }
+
+        return -1;
+    }
+
+    public int lastIndexOf(int value) {
+        int i = size - 1;
+
+        for (int slot = tail; slot != NONE; slot = prev[slot]) {
+            if (values[slot] == value) {
+                return i;
+            }
+
+            i--;
+        }
+
+        return -1;
+    }
+
+    public int remove(int index) {
+        int slot = slot(index);
+        int value = values[slot];
+        unlink(slot);
+
+        return value;
+    }
+
+    public boolean removeFirstOccurrence(int value) {
+        for (int slot = header; slot != NONE; slot = next[slot]) {
+            if (values[slot] == value) {
+                unlink(slot);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public boolean removeLastOccurrence(int value) {
+        for (int slot = tail; slot != NONE; slot = prev[slot]) {
+            if (values[slot] == value) {
+                unlink(slot);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int slot = header; slot != NONE; slot = next[slot]) {
+            action.accept(values[slot]);
+        }
+    }
+
+    public int[] toArray() {
+        int[] array = new int[size];
+        int i = 0;
+
+        for (int slot = header; slot != NONE; slot = next[slot]) {
+            array[i++] = values[slot];
+        }
+
+        return array;
+    }
+
+    public void print() {
+        System.out.println();
+
+        forEach(value -> System.out.print(value + " "));
+    }
+
+    @Override
+    void resizeValues(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void clearValues(int used) {
+        // primitive values hold no references, the slots are simply overwritten
+    }
+}
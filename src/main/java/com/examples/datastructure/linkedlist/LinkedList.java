@@ -1,7 +1,30 @@
 package com.examples.datastructure.linkedlist;
 
+import com.examples.datastructure.linkedlist.LinkedListMetrics.Operation;
+
+import java.lang.reflect.Array;
+import java.util.AbstractSequentialList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Generic linked list operations:
@@ -25,244 +48,679 @@ import java.util.stream.IntStream;
  * removeLast
  * removeLastOccurrence
  * size
+ * iterator
+ * listIterator
+ * spliterator
+ * stream
+ * parallelStream
+ * <p>
+ * Deque operations:
+ * offer
+ * offerFirst
+ * offerLast
+ * poll
+ * pollFirst
+ * pollLast
+ * peek
+ * peekFirst
+ * peekLast
+ * push
+ * pop
+ * element
+ * descendingIterator
+ * <p>
+ * Bulk operations:
+ * addAll
+ * removeAll
+ * retainAll
+ * removeIf
+ * splice
  * <p>
  * Bonus operations:
  * reverse
+ * reverseLazily
+ * reversed
  * moveLastToFront
+ * sort
+ * toPersistent
+ * fromPersistent
+ * <p>
+ * Lazy views (ListView, one walk of the chain per terminal operation, no intermediate lists):
+ * view
+ * map
+ * filter
+ * takeWhile
+ * limit
+ * zip
+ * flatMap
+ * <p>
+ * The list implements java.util.List and Deque (through AbstractSequentialList), the rest of the List API
+ * (add and set at an index, subList, equals, hashCode, toString) works through the list iterator,
+ * which starts from the nearest of the two ends and the finger. getFirst, getLast, removeFirst and removeLast
+ * keep their original behaviour and return null on an empty list, like peekFirst and pollFirst;
+ * element, remove() and pop throw NoSuchElementException as Deque specifies.
+ * Null elements are permitted, the searches compare with Objects.equals.
+ * <p>
+ * Node recycling: with a positive node pool capacity removed items are kept (without their data)
+ * and reused by the next additions, so a list with steady add/remove churn does not allocate.
+ * <p>
+ * Hash index: setIndexed(true) keeps a value -> items map in sync with every mutation,
+ * contains, removeFirstOccurrence and removeLastOccurrence become O(1) expected
+ * (indexOf and lastIndexOf return -1 for a missing value without a scan).
+ * The items of a value are kept in chain order, so a removal is O(1) at either end of them
+ * and O(number of equal values) in between; inserting in the middle through a list iterator
+ * or set re-collects the items of that value in O(n).
+ * <p>
+ * Metrics: with -Dlinkedlist.metrics=true add, contains, get, indexOf, lastIndexOf, remove and the occurrence
+ * removals report their calls, the links they followed and their latency to LinkedListMetrics.
  *
  * @author Matyas Ember
  */
-public class LinkedList<T extends Comparable<T>> {
+public class LinkedList<T extends Comparable<T>> extends AbstractSequentialList<T> implements List<T>, Deque<T> {
 
     private ListItem<T> header = null;
 
-    public boolean add(T value) {
-        ListItem<T> item = new ListItem<>(value);
+    private ListItem<T> tail = null;
 
-        if (header == null) {
-            header = item;
-            return true;
+    private int size = 0;
+
+    /**
+     * Lazy reversed view: header/tail and next/prev are read swapped until the next structural modification.
+     */
+    private boolean reversed = false;
+
+    /**
+     * Finger: the last accessed item and its index, indexed access starts from here when it is the nearest.
+     */
+    private ListItem<T> finger = null;
+
+    private int fingerIndex = 0;
+
+    /**
+     * Links followed by the last item() walk, only kept for the metrics.
+     */
+    private int traversed = 0;
+
+    private final int nodePoolCapacity;
+
+    /**
+     * Recycled items chained through next.
+     */
+    private ListItem<T> nodePool = null;
+
+    private int nodePoolSize = 0;
+
+    /**
+     * Hash index: value -> its single item, or an ArrayDeque of its items in physical chain order
+     * (reverse chain order when indexReversed); null when the list is not indexed.
+     */
+    private Map<T, Object> valueIndex = null;
+
+    private boolean indexReversed = false;
+
+    public LinkedList() {
+        this(0);
+    }
+
+    public LinkedList(int nodePoolCapacity) {
+        if (nodePoolCapacity < 0) {
+            throw new IllegalArgumentException("Node pool capacity must not be negative: " + nodePoolCapacity);
         }
 
-        ListItem<T> act = header;
+        this.nodePoolCapacity = nodePoolCapacity;
+    }
 
-        while (act.getNext() != null) {
-            act = act.getNext();
+    @Override
+    public boolean add(T value) {
+        long start = LinkedListMetrics.start();
+
+        materializeReversal();
+
+        ListItem<T> item = newItem(value);
+
+        if (tail == null) {
+            header = item;
+        } else {
+            tail.setNext(item);
+            item.setPrev(tail);
         }
 
-        act.setNext(item);
-        item.setPrev(act);
+        tail = item;
+        size++;
+        modCount++;
+        indexAdd(item, true);
+
+        LinkedListMetrics.record(Operation.ADD, 0, start);
 
         return true;
     }
 
+    @Override
     public void addFirst(T value) {
-        ListItem<T> item = new ListItem<>(value);
-        item.setNext(header);
+        materializeReversal();
+
+        ListItem<T> item = newItem(value);
+
+        if (header == null) {
+            tail = item;
+        } else {
+            header.setPrev(item);
+            item.setNext(header);
+        }
+
         header = item;
+        size++;
+        modCount++;
+        indexAdd(item, false);
+
+        if (finger != null) {
+            fingerIndex++;
+        }
     }
 
+    @Override
     public void addLast(T value) {
         add(value);
     }
 
-    public void clear() {
-        while (header != null) {
-            removeFirst();
-        }
+    @Override
+    public boolean addAll(Collection<? extends T> values) {
+        return addAll(size, values);
     }
 
-    public boolean contains(T value) {
-        ListItem<T> act = header;
+    /**
+     * Inserts the values at the index in one pass: the new items are chained up first,
+     * then the chain is linked in between its two neighbours.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends T> values) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
 
-        while (act != null && !act.getData().equals(value)) {
-            act = act.getNext();
+        ListItem<T> first = null;
+        ListItem<T> last = null;
+        int count = 0;
+
+        for (T value : values) {
+            ListItem<T> item = newItem(value);
+
+            if (last == null) {
+                first = item;
+            } else {
+                last.setNext(item);
+                item.setPrev(last);
+            }
+
+            last = item;
+            count++;
         }
 
-        return act != null;
+        if (count == 0) {
+            return false;
+        }
+
+        materializeReversal();
+
+        ListItem<T> successor = index == size ? null : item(index);
+        ListItem<T> predecessor = successor != null ? successor.getPrev() : tail;
+
+        first.setPrev(predecessor);
+        last.setNext(successor);
+
+        if (predecessor != null) {
+            predecessor.setNext(first);
+        } else {
+            header = first;
+        }
+
+        if (successor != null) {
+            successor.setPrev(last);
+        } else {
+            tail = last;
+        }
+
+        size += count;
+        modCount++;
+
+        if (finger != null && fingerIndex >= index) {
+            fingerIndex += count;
+        }
+
+        if (valueIndex != null) {
+            if (successor == null) {
+                for (ListItem<T> act = first; act != null; act = act.getNext()) {
+                    indexAdd(act, true);
+                }
+            } else if (predecessor == null) {
+                for (ListItem<T> act = last; act != null; act = act.getPrev()) {
+                    indexAdd(act, false);
+                }
+            } else {
+                buildIndex();
+            }
+        }
+
+        return true;
     }
 
-    public T get(int index) {
-        if (index < 0) {
-            throw new ArrayIndexOutOfBoundsException();
+    @Override
+    public void clear() {
+        reversed = false;
+        finger = null;
+
+        while (header != null) {
+            removeFirst();
         }
+    }
 
+    @Override
+    public boolean contains(Object value) {
+        long start = LinkedListMetrics.start();
+        boolean found;
         int i = 0;
 
-        ListItem<T> act = header;
-
-        while (act != null && i < index) {
-            act = act.getNext();
+        if (valueIndex != null) {
+            found = valueIndex.containsKey(value);
+        } else {
+            ListItem<T> act = header;
 
-            if (act != null) {
+            while (act != null && !Objects.equals(act.getData(), value)) {
+                act = act.getNext();
                 i++;
             }
-        }
 
-        if (index > i) {
-            throw new ArrayIndexOutOfBoundsException();
+            found = act != null;
         }
 
-        return act != null ? act.getData() : null;
+        LinkedListMetrics.record(Operation.CONTAINS, i, start);
+
+        return found;
+    }
+
+    @Override
+    public T get(int index) {
+        long start = LinkedListMetrics.start();
+
+        checkIndex(index);
+
+        T value = item(index).getData();
+
+        LinkedListMetrics.record(Operation.GET, traversed, start);
+
+        return value;
     }
 
+    @Override
     public T getFirst() {
-        return get(0);
+        ListItem<T> first = first();
+        return first != null ? first.getData() : null;
     }
 
+    @Override
     public T getLast() {
-        return get(size() - 1);
+        ListItem<T> last = last();
+        return last != null ? last.getData() : null;
     }
 
-    public int indexOf(T value) {
-        ListItem<T> act = header;
+    @Override
+    public int indexOf(Object value) {
+        long start = LinkedListMetrics.start();
+        ListItem<T> act = null;
 
         int i = 0;
 
-        while (act != null && !act.getData().equals(value)) {
-            act = act.getNext();
-            i++;
+        if (valueIndex == null || valueIndex.containsKey(value)) {
+            act = first();
+
+            while (act != null && !Objects.equals(act.getData(), value)) {
+                act = next(act);
+                i++;
+            }
         }
 
+        LinkedListMetrics.record(Operation.INDEX_OF, i, start);
+
         return act != null ? i : -1;
     }
 
+    @Override
     public boolean isEmpty() {
         return header == null;
     }
 
-    public int lastIndexOf(T value) {
-        ListItem<T> act = header;
+    @Override
+    public int lastIndexOf(Object value) {
+        long start = LinkedListMetrics.start();
+        ListItem<T> act = null;
 
-        if (act == null) {
-            return -1;
-        }
+        int i = size - 1;
 
-        int i = 0;
+        if (valueIndex == null || valueIndex.containsKey(value)) {
+            act = last();
 
-        while (act.getNext() != null) {
-            act = act.getNext();
-            i++;
+            while (act != null && !Objects.equals(act.getData(), value)) {
+                act = prev(act);
+                i--;
+            }
         }
 
-        while (act != null && !act.getData().equals(value)) {
-            act = act.getPrev();
-            i--;
-        }
+        LinkedListMetrics.record(Operation.LAST_INDEX_OF, size - 1 - i, start);
 
         return act != null ? i : -1;
     }
 
 
+    @Override
     public T remove(int index) {
-        if (index < 0) {
-            throw new ArrayIndexOutOfBoundsException();
+        long start = LinkedListMetrics.start();
+
+        checkIndex(index);
+
+        materializeReversal();
+
+        ListItem<T> act = item(index);
+        T value = act.getData();
+
+        linkOutListItem(act, index);
+
+        LinkedListMetrics.record(Operation.REMOVE, traversed, start);
+
+        return value;
+    }
+
+    /**
+     * Removes the first element, returns it or null if the list is empty.
+     */
+    @Override
+    public T removeFirst() {
+        ListItem<T> first = first();
+
+        if (first == null) {
+            return null;
         }
 
-        int i = 0;
+        T value = first.getData();
+
+        materializeReversal();
+
+        linkOutListItem(header, 0);
+
+        return value;
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object value) {
+        long start = LinkedListMetrics.start();
+
+        materializeReversal();
+
+        if (valueIndex != null) {
+            boolean removed = removeIndexed(value, true);
+
+            LinkedListMetrics.record(Operation.REMOVE_FIRST_OCCURRENCE, 0, start);
+
+            return removed;
+        }
 
         ListItem<T> act = header;
 
-        while (act != null && i < index) {
+        int i = 0;
+
+        while (act != null && !Objects.equals(act.getData(), value)) {
             act = act.getNext();
             i++;
         }
 
-        if (index - 1 > i) {
-            throw new ArrayIndexOutOfBoundsException();
+        if (act != null) {
+            linkOutListItem(act, i);
         }
 
-        if (act == null) {
+        LinkedListMetrics.record(Operation.REMOVE_FIRST_OCCURRENCE, i, start);
+
+        return act != null;
+    }
+
+    /**
+     * Removes the last element, returns it or null if the list is empty.
+     */
+    @Override
+    public T removeLast() {
+        ListItem<T> last = last();
+
+        if (last == null) {
             return null;
         }
 
-        linkOutListItem(act);
+        T value = last.getData();
+
+        materializeReversal();
 
-        return act.getData();
+        linkOutListItem(tail, size - 1);
+
+        return value;
     }
 
-    public void removeFirst() {
-        if (header == null) {
-            return;
-        }
+    @Override
+    public boolean removeLastOccurrence(Object value) {
+        long start = LinkedListMetrics.start();
 
-        ListItem<T> next = header.getNext();
+        materializeReversal();
 
-        if (next != null) {
-            next.setPrev(null);
+        if (valueIndex != null) {
+            boolean removed = removeIndexed(value, false);
+
+            LinkedListMetrics.record(Operation.REMOVE_LAST_OCCURRENCE, 0, start);
+
+            return removed;
         }
 
-        header.setNext(null);
-        header = next;
-    }
+        ListItem<T> act = tail;
 
-    public boolean removeFirstOccurrence(T value) {
-        ListItem<T> act = header;
+        int i = size - 1;
 
-        while (act != null && !act.getData().equals(value)) {
-            act = act.getNext();
+        while (act != null && !Objects.equals(act.getData(), value)) {
+            act = act.getPrev();
+            i--;
         }
 
-        if (act == null) {
-            return false;
+        int followed = size - 1 - i;
+
+        if (act != null) {
+            linkOutListItem(act, i);
         }
 
-        linkOutListItem(act);
+        LinkedListMetrics.record(Operation.REMOVE_LAST_OCCURRENCE, followed, start);
+
+        return act != null;
+    }
+
+    @Override
+    public boolean remove(Object value) {
+        return removeFirstOccurrence(value);
+    }
+
+    @Override
+    public boolean offer(T value) {
+        return add(value);
+    }
+
+    @Override
+    public boolean offerFirst(T value) {
+        addFirst(value);
 
         return true;
     }
 
-    public void removeLast() {
+    @Override
+    public boolean offerLast(T value) {
+        return add(value);
+    }
+
+    @Override
+    public T poll() {
+        return removeFirst();
+    }
+
+    @Override
+    public T pollFirst() {
+        return removeFirst();
+    }
+
+    @Override
+    public T pollLast() {
+        return removeLast();
+    }
+
+    @Override
+    public T peek() {
+        return getFirst();
+    }
+
+    @Override
+    public T peekFirst() {
+        return getFirst();
+    }
+
+    @Override
+    public T peekLast() {
+        return getLast();
+    }
+
+    @Override
+    public void push(T value) {
+        addFirst(value);
+    }
+
+    @Override
+    public T pop() {
         if (header == null) {
-            return;
+            throw new NoSuchElementException();
         }
 
-        ListItem<T> act = header;
+        return removeFirst();
+    }
 
-        while (act.getNext() != null) {
-            act = act.getNext();
+    @Override
+    public T remove() {
+        return pop();
+    }
+
+    @Override
+    public T element() {
+        if (header == null) {
+            throw new NoSuchElementException();
         }
 
-        ListItem<T> prev = act.getPrev();
+        return getFirst();
+    }
+
+    /**
+     * Removes every element contained in the values (a HashSet keeps the single traversal O(n)).
+     */
+    @Override
+    public boolean removeAll(Collection<?> values) {
+        Objects.requireNonNull(values);
 
-        if (prev != null) {
-            prev.setNext(null);
-        } else {
-            header = null;
-        }
+        return removeIf(values::contains);
+    }
 
-        act.setPrev(null);
+    /**
+     * Removes every element not contained in the values (a HashSet keeps the single traversal O(n)).
+     */
+    @Override
+    public boolean retainAll(Collection<?> values) {
+        Objects.requireNonNull(values);
+
+        return removeIf(value -> !values.contains(value));
     }
 
-    public boolean removeLastOccurrence(T value) {
+    /**
+     * Removes the elements matching the filter in a single traversal.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter);
+
+        materializeReversal();
+
+        boolean removed = false;
         ListItem<T> act = header;
+        int i = 0;
 
-        if (act == null) {
-            return false;
+        while (act != null) {
+            ListItem<T> next = act.getNext();
+
+            if (filter.test(act.getData())) {
+                linkOutListItem(act, i);
+                removed = true;
+            } else {
+                i++;
+            }
+
+            act = next;
         }
 
-        while (act.getNext() != null) {
-            act = act.getNext();
+        return removed;
+    }
+
+    /**
+     * Moves all items of the other list to the end of this list without copying, the other list becomes empty.
+     * O(1), except that a lazily reversed list is materialized first and an indexed list registers the moved items.
+     */
+    public void splice(LinkedList<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("A list can not be spliced into itself");
         }
 
-        while (act != null && !act.getData().equals(value)) {
-            act = act.getPrev();
+        if (other.header == null) {
+            return;
         }
 
-        if (act == null) {
-            return false;
+        materializeReversal();
+        other.materializeReversal();
+
+        ListItem<T> first = other.header;
+
+        if (tail == null) {
+            header = first;
+        } else {
+            tail.setNext(first);
+            first.setPrev(tail);
         }
 
-        linkOutListItem(act);
+        tail = other.tail;
+        size += other.size;
+        modCount++;
 
-        return true;
+        if (valueIndex != null) {
+            for (ListItem<T> act = first; act != null; act = act.getNext()) {
+                indexAdd(act, true);
+            }
+        }
+
+        other.header = null;
+        other.tail = null;
+        other.size = 0;
+        other.finger = null;
+        other.modCount++;
+
+        if (other.valueIndex != null) {
+            other.valueIndex.clear();
+            other.indexReversed = false;
+        }
     }
 
-    private void linkOutListItem(ListItem<T> item) {
+    /**
+     * Links out the item at the index (-1 if the index is not known).
+     */
+    private void linkOutListItem(ListItem<T> item, int index) {
         if (item == null) {
             return;
         }
 
+        indexRemove(item);
+
         ListItem<T> prev = item.getPrev();
         ListItem<T> next = item.getNext();
 
@@ -274,67 +732,863 @@ public class LinkedList<T extends Comparable<T>> {
 
         if (next != null) {
             next.setPrev(prev);
+        } else {
+            tail = prev;
         }
 
         item.setPrev(null);
         item.setNext(null);
-    }
+        size--;
+        modCount++;
 
-    public int size() {
-        int i = 0;
+        if (index < 0) {
+            finger = null;
+        } else if (finger == item) {
+            finger = next != null ? next : prev;
+            fingerIndex = next != null ? index : index - 1;
+        } else if (finger != null && fingerIndex > index) {
+            fingerIndex--;
+        }
 
-        ListItem<T> act = header;
+        recycle(item);
+    }
 
-        while (act != null) {
-            act = act.getNext();
-            i++;
+    private ListItem<T> newItem(T value) {
+        if (nodePool == null) {
+            return new ListItem<>(value);
         }
 
-        return i;
+        ListItem<T> item = nodePool;
+        nodePool = item.getNext();
+        nodePoolSize--;
+
+        item.setNext(null);
+        item.setData(value);
+
+        return item;
     }
 
-    public void moveLastToFront() {
-        if (header == null || header.getNext() == null) {
+    /**
+     * Keeps an unlinked item for reuse while the pool has room, its data is dropped right away.
+     */
+    private void recycle(ListItem<T> item) {
+        if (nodePoolSize == nodePoolCapacity) {
             return;
         }
 
-        ListItem<T> act = header;
+        item.setData(null);
+        item.setNext(nodePool);
+        nodePool = item;
+        nodePoolSize++;
+    }
 
-        while (act.getNext() != null) {
-            act = act.getNext();
-        }
+    /**
+     * Links a new item in before the given one (the list must not be in reversed view).
+     */
+    private void linkBefore(T value, ListItem<T> successor, int index) {
+        ListItem<T> prev = successor.getPrev();
 
-        act.getPrev().setNext(null);
-        act.setPrev(null);
-        act.setNext(header);
+        if (prev == null) {
+            addFirst(value);
+            return;
+        }
 
-        header.setPrev(act);
-        header = act;
+        ListItem<T> item = newItem(value);
+        item.setPrev(prev);
+        item.setNext(successor);
+        prev.setNext(item);
+        successor.setPrev(item);
+        size++;
+        modCount++;
+        indexCollect(value);
+
+        if (finger != null && fingerIndex >= index) {
+            fingerIndex++;
+        }
     }
 
-    public void reverse() {
-        if (header == null) {
-            return;
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
         }
+    }
 
-        ListItem<T> next = header.getNext();
-        header.setNext(header.getPrev());
-        header.setPrev(next);
+    /**
+     * Walks to the index from the nearest of the first item, the last item and the finger.
+     */
+    private ListItem<T> item(int index) {
+        ListItem<T> act = first();
+        int i = 0;
 
-        if (next != null) {
-            header = next;
-            reverse();
+        if (size - 1 - index < index) {
+            act = last();
+            i = size - 1;
         }
-    }
 
-    public void print() {
-        System.out.println();
+        if (finger != null && Math.abs(index - fingerIndex) < Math.abs(index - i)) {
+            act = finger;
+            i = fingerIndex;
+        }
 
-        ListItem<T> act = header;
+        if (LinkedListMetrics.ENABLED) {
+            traversed = Math.abs(index - i);
+        }
+
+        while (i < index) {
+            act = next(act);
+            i++;
+        }
+
+        while (i > index) {
+            act = prev(act);
+            i--;
+        }
+
+        finger = act;
+        fingerIndex = index;
+
+        return act;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public void sort() {
+        sort(Comparator.naturalOrder());
+    }
+
+    /**
+     * Stable bottom-up merge sort: merges neighbouring runs of width 1, 2, 4, ... by relinking the items,
+     * without recursion and without allocation. The prev links are set while merging,
+     * the sort stops after the first pass that finds a single run. A null comparator sorts in natural order.
+     */
+    @Override
+    public void sort(Comparator<? super T> comparator) {
+        if (comparator == null) {
+            comparator = Comparator.naturalOrder();
+        }
+
+        materializeReversal();
+
+        if (size > 1) {
+            ListItem<T> first = header;
+            ListItem<T> last;
+            int merges;
+
+            for (int width = 1; ; width <<= 1) {
+                ListItem<T> left = first;
+                first = null;
+                last = null;
+                merges = 0;
+
+                while (left != null) {
+                    merges++;
+
+                    ListItem<T> right = left;
+                    int leftSize = 0;
+
+                    while (leftSize < width && right != null) {
+                        right = right.getNext();
+                        leftSize++;
+                    }
+
+                    int rightSize = width;
+
+                    while (leftSize > 0 || rightSize > 0 && right != null) {
+                        ListItem<T> next;
+
+                        if (leftSize == 0 || rightSize > 0 && right != null
+                                && comparator.compare(left.getData(), right.getData()) > 0) {
+                            next = right;
+                            right = right.getNext();
+                            rightSize--;
+                        } else {
+                            next = left;
+                            left = left.getNext();
+                            leftSize--;
+                        }
+
+                        if (last == null) {
+                            first = next;
+                        } else {
+                            last.setNext(next);
+                        }
+
+                        next.setPrev(last);
+                        last = next;
+                    }
+
+                    left = right;
+                }
+
+                last.setNext(null);
+
+                if (merges <= 1) {
+                    break;
+                }
+            }
+
+            header = first;
+            tail = last;
+        }
+
+        finger = null;
+        modCount++;
+
+        if (valueIndex != null) {
+            buildIndex();
+        }
+    }
+
+    /**
+     * Turns the hash index on (built in O(n)) or off.
+     */
+    public void setIndexed(boolean indexed) {
+        if (!indexed) {
+            valueIndex = null;
+        } else if (valueIndex == null) {
+            valueIndex = new HashMap<>();
+            buildIndex();
+        }
+    }
+
+    public boolean isIndexed() {
+        return valueIndex != null;
+    }
+
+    private void buildIndex() {
+        valueIndex.clear();
+        indexReversed = false;
+
+        for (ListItem<T> act = header; act != null; act = act.getNext()) {
+            indexAdd(act, true);
+        }
+    }
+
+    /**
+     * Registers an item linked in at the physical end (or front) of the chain.
+     */
+    private void indexAdd(ListItem<T> item, boolean atEnd) {
+        if (valueIndex == null) {
+            return;
+        }
+
+        Object indexed = valueIndex.putIfAbsent(item.getData(), item);
+
+        if (indexed == null) {
+            return;
+        }
+
+        ArrayDeque<ListItem<T>> items;
+
+        if (indexed instanceof ListItem) {
+            items = new ArrayDeque<>(4);
+            items.add(asItem(indexed));
+            valueIndex.put(item.getData(), items);
+        } else {
+            items = asItems(indexed);
+        }
+
+        if (atEnd != indexReversed) {
+            items.addLast(item);
+        } else {
+            items.addFirst(item);
+        }
+    }
+
+    private void indexRemove(ListItem<T> item) {
+        if (valueIndex == null) {
+            return;
+        }
+
+        Object indexed = valueIndex.get(item.getData());
+
+        if (indexed == item) {
+            valueIndex.remove(item.getData());
+            return;
+        }
+
+        ArrayDeque<ListItem<T>> items = asItems(indexed);
+
+        if (items.peekFirst() == item) {
+            items.pollFirst();
+        } else if (items.peekLast() == item) {
+            items.pollLast();
+        } else {
+            items.removeFirstOccurrence(item);
+        }
+
+        if (items.size() == 1) {
+            valueIndex.put(item.getData(), items.peekFirst());
+        }
+    }
+
+    /**
+     * Re-collects the items of the value in chain order, after an item was linked in the middle.
+     */
+    private void indexCollect(T value) {
+        if (valueIndex == null) {
+            return;
+        }
+
+        ArrayDeque<ListItem<T>> items = new ArrayDeque<>();
+
+        for (ListItem<T> act = header; act != null; act = act.getNext()) {
+            if (Objects.equals(act.getData(), value)) {
+                if (indexReversed) {
+                    items.addFirst(act);
+                } else {
+                    items.addLast(act);
+                }
+            }
+        }
+
+        valueIndex.put(value, items.size() == 1 ? items.peekFirst() : items);
+    }
+
+    private boolean removeIndexed(Object value, boolean first) {
+        Object indexed = valueIndex.get(value);
+
+        if (indexed == null) {
+            return false;
+        }
+
+        if (indexed instanceof ListItem) {
+            linkOutListItem(asItem(indexed), -1);
+        } else {
+            ArrayDeque<ListItem<T>> items = asItems(indexed);
+            linkOutListItem(first != indexReversed ? items.peekFirst() : items.peekLast(), -1);
+        }
+
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ListItem<T> asItem(Object indexed) {
+        return (ListItem<T>) indexed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArrayDeque<ListItem<T>> asItems(Object indexed) {
+        return (ArrayDeque<ListItem<T>>) indexed;
+    }
+
+    public void moveLastToFront() {
+        if (header == null || header.getNext() == null) {
+            return;
+        }
+
+        materializeReversal();
+
+        ListItem<T> act = tail;
+
+        tail = act.getPrev();
+        tail.setNext(null);
+
+        act.setPrev(null);
+        act.setNext(header);
+
+        header.setPrev(act);
+        header = act;
+        modCount++;
+
+        if (valueIndex != null) {
+            indexRemove(act);
+            indexAdd(act, false);
+        }
+
+        if (finger != null) {
+            fingerIndex = finger == act ? 0 : fingerIndex + 1;
+        }
+    }
+
+    public void reverse() {
+        fingerIndex = size - 1 - fingerIndex;
+        modCount++;
+
+        if (reversed) {
+            reversed = false;
+            return;
+        }
+
+        reverseLinks();
+    }
+
+    /**
+     * Reverses the iteration direction in O(1), the links are only reversed on the next structural modification.
+     */
+    public void reverseLazily() {
+        fingerIndex = size - 1 - fingerIndex;
+        modCount++;
+        reversed = !reversed;
+    }
+
+    /**
+     * New list with the elements in reverse order, this list is not changed: O(n) copy, reversed lazily.
+     * Declared here because List and Deque both define reversed() since Java 21, with unrelated return types.
+     */
+    public LinkedList<T> reversed() {
+        LinkedList<T> copy = new LinkedList<>(nodePoolCapacity);
+
+        copy.addAll(this);
+        copy.reverseLazily();
+
+        return copy;
+    }
+
+    private void materializeReversal() {
+        if (reversed) {
+            reverseLinks();
+            reversed = false;
+        }
+    }
+
+    private void reverseLinks() {
+        indexReversed = !indexReversed;
+
+        ListItem<T> act = header;
+
+        while (act != null) {
+            ListItem<T> next = act.getNext();
+            act.setNext(act.getPrev());
+            act.setPrev(next);
+            act = next;
+        }
+
+        act = header;
+        header = tail;
+        tail = act;
+    }
+
+    private ListItem<T> first() {
+        return reversed ? tail : header;
+    }
+
+    private ListItem<T> last() {
+        return reversed ? header : tail;
+    }
+
+    private ListItem<T> next(ListItem<T> item) {
+        return reversed ? item.getPrev() : item.getNext();
+    }
+
+    private ListItem<T> prev(ListItem<T> item) {
+        return reversed ? item.getNext() : item.getPrev();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ListItr(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new ListItr(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        return new ListItr(index);
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ItemSpliterator();
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Lazy view of the list, a terminal operation walks the chain once and fails fast on a concurrent modification.
+     */
+    public ListView<T> view() {
+        return new ListView<T>() {
+            @Override
+            boolean forEachWhile(Predicate<? super T> action) {
+                int expectedModCount = modCount;
+
+                for (ListItem<T> act = first(); act != null; act = next(act)) {
+                    boolean proceed = action.test(act.getData());
+
+                    if (modCount != expectedModCount) {
+                        throw new ConcurrentModificationException();
+                    }
+
+                    if (!proceed) {
+                        return false;
+                    }
+                }
+
+                return true;
+            }
+        };
+    }
+
+    public <R> ListView<R> map(Function<? super T, ? extends R> mapper) {
+        return view().map(mapper);
+    }
+
+    public ListView<T> filter(Predicate<? super T> predicate) {
+        return view().filter(predicate);
+    }
+
+    public ListView<T> takeWhile(Predicate<? super T> predicate) {
+        return view().takeWhile(predicate);
+    }
+
+    public ListView<T> limit(long maxSize) {
+        return view().limit(maxSize);
+    }
+
+    public <U, R> ListView<R> zip(Iterable<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
+        return view().zip(other, zipper);
+    }
+
+    public <R> ListView<R> flatMap(Function<? super T, ? extends ListView<? extends R>> mapper) {
+        return view().flatMap(mapper);
+    }
+
+    @Override
+    public Iterator<T> descendingIterator() {
+        ListIterator<T> iterator = new ListItr(size);
+
+        return new Iterator<T>() {
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public T next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int i = 0;
+
+        for (ListItem<T> act = first(); act != null; act = next(act)) {
+            array[i++] = act.getData();
+        }
+
+        return array;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <E> E[] toArray(E[] array) {
+        if (array.length < size) {
+            array = (E[]) Array.newInstance(array.getClass().getComponentType(), size);
+        }
+
+        int i = 0;
+
+        for (ListItem<T> act = first(); act != null; act = next(act)) {
+            array[i++] = (E) act.getData();
+        }
+
+        if (array.length > size) {
+            array[size] = null;
+        }
+
+        return array;
+    }
+
+    /**
+     * Late-binding, fail-fast spliterator: splits off growing batches of items copied into arrays
+     * (like the spliterator of java.util.LinkedList), so parallel streams get balanced chunks.
+     */
+    private class ItemSpliterator implements Spliterator<T> {
+
+        private static final int BATCH_UNIT = 1 << 10;
+
+        private static final int MAX_BATCH = 1 << 25;
+
+        private ListItem<T> current;
+
+        private int est = -1;
+
+        private int expectedModCount;
+
+        private int batch;
+
+        private int getEst() {
+            if (est < 0) {
+                current = first();
+                est = size;
+                expectedModCount = modCount;
+            }
+
+            return est;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getEst();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int s = getEst();
+
+            if (s <= 1 || current == null) {
+                return null;
+            }
+
+            int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), s);
+            Object[] array = new Object[n];
+            int j = 0;
+
+            do {
+                array[j++] = current.getData();
+                current = next(current);
+            } while (current != null && j < n);
+
+            batch = j;
+            est = s - j;
+
+            return Spliterators.spliterator(array, 0, j, Spliterator.ORDERED);
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            int n = getEst();
+            ListItem<T> act = current;
+
+            current = null;
+            est = 0;
+
+            while (act != null && n-- > 0) {
+                action.accept(act.getData());
+                act = next(act);
+            }
+
+            checkForComodification();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+
+            if (getEst() <= 0 || current == null) {
+                return false;
+            }
+
+            T value = current.getData();
+            current = next(current);
+            est--;
+
+            action.accept(value);
+            checkForComodification();
+
+            return true;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Fail-fast list iterator over the items, adds and removes at the cursor in O(1).
+     */
+    private class ListItr implements ListIterator<T> {
+
+        private ListItem<T> next;
+
+        private ListItem<T> lastReturned;
+
+        private int nextIndex;
+
+        private int expectedModCount = modCount;
+
+        ListItr(int index) {
+            next = index == size ? null : item(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = next;
+            next = LinkedList.this.next(next);
+            nextIndex++;
+
+            return lastReturned.getData();
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+
+            next = next == null ? last() : prev(next);
+            lastReturned = next;
+            nextIndex--;
+
+            return lastReturned.getData();
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            materializeReversal();
+
+            ListItem<T> lastNext = lastReturned.getNext();
+
+            if (next == lastReturned) {
+                linkOutListItem(lastReturned, nextIndex);
+                next = lastNext;
+            } else {
+                linkOutListItem(lastReturned, nextIndex - 1);
+                nextIndex--;
+            }
+
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T value) {
+            checkForComodification();
+
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            if (valueIndex != null) {
+                indexRemove(lastReturned);
+                lastReturned.setData(value);
+                indexCollect(value);
+            } else {
+                lastReturned.setData(value);
+            }
+        }
+
+        @Override
+        public void add(T value) {
+            checkForComodification();
+
+            materializeReversal();
+
+            if (next == null) {
+                LinkedList.this.add(value);
+            } else {
+                linkBefore(value, next, nextIndex);
+            }
+
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Immutable copy for lock-free readers, built from the last element backwards in O(n).
+     */
+    public PersistentLinkedList<T> toPersistent() {
+        PersistentLinkedList<T> persistent = PersistentLinkedList.empty();
+
+        for (ListItem<T> act = last(); act != null; act = prev(act)) {
+            persistent = persistent.addFirst(act.getData());
+        }
+
+        return persistent;
+    }
+
+    public static <T extends Comparable<T>> LinkedList<T> fromPersistent(PersistentLinkedList<T> persistent) {
+        LinkedList<T> list = new LinkedList<>();
+
+        for (T value : persistent) {
+            list.add(value);
+        }
+
+        return list;
+    }
+
+    public void print() {
+        System.out.println();
+
+        ListItem<T> act = first();
 
         while (act != null) {
             System.out.print(act.getData() + " ");
-            act = act.getNext();
+            act = next(act);
         }
     }
 
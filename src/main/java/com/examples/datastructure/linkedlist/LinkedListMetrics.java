@@ -0,0 +1,164 @@
+package com.examples.datastructure.linkedlist;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Operation-level metrics of LinkedList: per operation the number of calls, the number of items traversed
+ * and a latency histogram, summed over all lists of the JVM.
+ * <p>
+ * Turned on with -Dlinkedlist.metrics=true. ENABLED is a static final flag, so when it is off
+ * the JIT folds the recording calls (and the traversal counting feeding them) away, the instrumentation is free.
+ * When it is on, the metrics go to striped counters and are published as an MXBean under OBJECT_NAME.
+ * <p>
+ * Operations:
+ * <p>
+ * snapshot
+ * reset
+ * registerMBean
+ *
+ * @author Matyas Ember
+ */
+public final class LinkedListMetrics implements LinkedListMetricsMXBean {
+
+    public static final boolean ENABLED = Boolean.getBoolean("linkedlist.metrics");
+
+    public static final String OBJECT_NAME = "com.examples.datastructure.linkedlist:type=LinkedListMetrics";
+
+    private static final int BUCKETS = 64;
+
+    private static final LinkedListMetrics INSTANCE = new LinkedListMetrics();
+
+    static {
+        if (ENABLED) {
+            registerMBean();
+        }
+    }
+
+    /**
+     * Instrumented operations.
+     */
+    public enum Operation {
+        ADD,
+        CONTAINS,
+        GET,
+        INDEX_OF,
+        LAST_INDEX_OF,
+        REMOVE,
+        REMOVE_FIRST_OCCURRENCE,
+        REMOVE_LAST_OCCURRENCE
+    }
+
+    private final Counters[] counters = new Counters[Operation.values().length];
+
+    private LinkedListMetrics() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new Counters();
+        }
+    }
+
+    /**
+     * Start time of an operation, 0 when the metrics are off.
+     */
+    static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    static void record(Operation operation, int traversed, long start) {
+        if (ENABLED) {
+            INSTANCE.counters[operation.ordinal()].record(traversed, System.nanoTime() - start);
+        }
+    }
+
+    public static Map<Operation, OperationMetrics> snapshot() {
+        Map<Operation, OperationMetrics> metrics = new EnumMap<>(Operation.class);
+
+        for (Operation operation : Operation.values()) {
+            metrics.put(operation, INSTANCE.counters[operation.ordinal()].snapshot());
+        }
+
+        return metrics;
+    }
+
+    public static void reset() {
+        INSTANCE.resetCounters();
+    }
+
+    /**
+     * Registers the MXBean in the platform MBean server (done at startup when the metrics are on).
+     */
+    public static void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // registered already
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register " + OBJECT_NAME, e);
+        }
+    }
+
+    @Override
+    public Map<String, OperationMetrics> getOperations() {
+        Map<String, OperationMetrics> operations = new LinkedHashMap<>();
+
+        snapshot().forEach((operation, metrics) -> operations.put(operation.name(), metrics));
+
+        return operations;
+    }
+
+    @Override
+    public void resetCounters() {
+        for (Counters counter : counters) {
+            counter.reset();
+        }
+    }
+
+    /**
+     * Counters: striped counters of one operation, latency bucket i counts durations below 2^i ns.
+     */
+    private static final class Counters {
+
+        private final LongAdder calls = new LongAdder();
+
+        private final LongAdder traversed = new LongAdder();
+
+        private final LongAdder[] latency = new LongAdder[BUCKETS];
+
+        private Counters() {
+            for (int i = 0; i < BUCKETS; i++) {
+                latency[i] = new LongAdder();
+            }
+        }
+
+        private void record(int traversedNodes, long nanos) {
+            calls.increment();
+            traversed.add(traversedNodes);
+            latency[Math.min(BUCKETS - 1, BUCKETS - Long.numberOfLeadingZeros(Math.max(0, nanos)))].increment();
+        }
+
+        private OperationMetrics snapshot() {
+            long[] histogram = new long[BUCKETS];
+
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = latency[i].sum();
+            }
+
+            return new OperationMetrics(calls.sum(), traversed.sum(), histogram);
+        }
+
+        private void reset() {
+            calls.reset();
+            traversed.reset();
+
+            for (LongAdder bucket : latency) {
+                bucket.reset();
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.Map;
+
+/**
+ * JMX view of LinkedListMetrics: the metrics of every operation by operation name.
+ *
+ * @author Matyas Ember
+ */
+public interface LinkedListMetricsMXBean {
+
+    Map<String, OperationMetrics> getOperations();
+
+    void resetCounters();
+}
@@ -0,0 +1,155 @@
+package com.examples.datastructure.linkedlist;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Binary snapshot of a LinkedList in a file:
+ * <p>
+ * The format is a header (magic number, version, element count) followed by the values
+ * encoded back to back by a ValueCodec, in list order. write streams the values through a direct buffer
+ * into a FileChannel, read memory-maps the file and appends the decoded values to a new list
+ * in one linear pass. Both walk the chain iteratively, so the length of the list is only limited by the disk.
+ * <p>
+ * Operations:
+ * <p>
+ * write
+ * read
+ * <p>
+ * Null values are not supported by the built-in codecs.
+ * A file that is not a snapshot, is truncated or holds a record the codec rejects is reported with IOException.
+ *
+ * @author Matyas Ember
+ */
+public final class LinkedListSnapshot {
+
+    private static final int MAGIC = 0x4C4C5354;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Largest part of the file mapped at once, a record must fit into it.
+     */
+    private static final int MAX_WINDOW = 1 << 30;
+
+    private LinkedListSnapshot() {
+    }
+
+    public static <T extends Comparable<T>> void write(LinkedList<T> list, Path path, ValueCodec<? super T> codec)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putInt(list.size());
+
+            for (T value : list) {
+                while (true) {
+                    int start = buffer.position();
+
+                    try {
+                        codec.encode(value, buffer);
+                        break;
+                    } catch (BufferOverflowException e) {
+                        // through Buffer, the covariant ByteBuffer overrides do not exist on Java 8
+                        ((Buffer) buffer).position(start);
+
+                        if (start == 0) {
+                            buffer = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+                        } else {
+                            flush(channel, buffer);
+                        }
+                    }
+                }
+            }
+
+            flush(channel, buffer);
+        }
+    }
+
+    public static <T extends Comparable<T>> LinkedList<T> read(Path path, ValueCodec<? extends T> codec)
+            throws IOException {
+        return read(path, codec, MAX_WINDOW);
+    }
+
+    /**
+     * Reads the snapshot through mappings of at most windowSize bytes, a record cut by the end of a window
+     * is decoded again from the start of the next one.
+     */
+    static <T extends Comparable<T>> LinkedList<T> read(Path path, ValueCodec<? extends T> codec, int windowSize)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException("Not a linked list snapshot: " + path);
+            }
+
+            long windowStart = 0;
+            MappedByteBuffer buffer = map(channel, windowStart, fileSize, windowSize);
+
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not a linked list snapshot: " + path);
+            }
+
+            int count = buffer.getInt();
+
+            if (count < 0) {
+                throw new IOException("Corrupt linked list snapshot, negative element count " + count + ": " + path);
+            }
+
+            LinkedList<T> list = new LinkedList<>();
+
+            while (list.size() < count) {
+                int start = buffer.position();
+
+                try {
+                    list.add(codec.decode(buffer));
+                } catch (BufferUnderflowException e) {
+                    if (windowStart + buffer.limit() == fileSize) {
+                        throw new IOException("Truncated linked list snapshot: " + path);
+                    }
+
+                    if (start == 0) {
+                        throw new IOException("Record larger than the mapping window at " + windowStart + ": " + path);
+                    }
+
+                    windowStart += start;
+                    buffer = map(channel, windowStart, fileSize, windowSize);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Corrupt record at " + (windowStart + start) + ": " + path, e);
+                }
+            }
+
+            return list;
+        }
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long position, long fileSize, int windowSize)
+            throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(fileSize - position, windowSize));
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        ((Buffer) buffer).flip();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        ((Buffer) buffer).clear();
+    }
+}
@@ -0,0 +1,328 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Lazy view of a sequence (LinkedList.view, ListView.of): the intermediate operations only wrap the view,
+ * nothing is read and no list is built until a terminal operation runs. The terminal operation then walks
+ * the source once and pushes every element through all the steps before taking the next one,
+ * so a chain of steps costs no intermediate copies.
+ * <p>
+ * Intermediate operations:
+ * <p>
+ * map
+ * filter
+ * takeWhile
+ * limit
+ * zip
+ * flatMap
+ * <p>
+ * Terminal operations:
+ * <p>
+ * toList
+ * forEach
+ * reduce
+ * count
+ * findFirst
+ * anyMatch
+ * <p>
+ * takeWhile, limit, zip, findFirst and anyMatch stop the walk of the source as soon as their result is known.
+ * A view can be run any number of times, every run reads the source as it is at that moment;
+ * a LinkedList modified during a run throws ConcurrentModificationException.
+ * findFirst of a null element returns an empty Optional.
+ *
+ * @author Matyas Ember
+ */
+public abstract class ListView<T> {
+
+    /**
+     * View of the elements of the iterable.
+     */
+    public static <T> ListView<T> of(Iterable<? extends T> source) {
+        Objects.requireNonNull(source);
+
+        return new ListView<T>() {
+            @Override
+            boolean forEachWhile(Predicate<? super T> action) {
+                for (T value : source) {
+                    if (!action.test(value)) {
+                        return false;
+                    }
+                }
+
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Passes the elements to the action in order while it returns true,
+     * returns false if the walk ended before the last element.
+     */
+    abstract boolean forEachWhile(Predicate<? super T> action);
+
+    public <R> ListView<R> map(Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+
+        ListView<T> source = this;
+
+        return new ListView<R>() {
+            @Override
+            boolean forEachWhile(Predicate<? super R> action) {
+                return source.forEachWhile(value -> action.test(mapper.apply(value)));
+            }
+        };
+    }
+
+    public ListView<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+
+        ListView<T> source = this;
+
+        return new ListView<T>() {
+            @Override
+            boolean forEachWhile(Predicate<? super T> action) {
+                return source.forEachWhile(value -> !predicate.test(value) || action.test(value));
+            }
+        };
+    }
+
+    /**
+     * The elements before the first one not matching the predicate.
+     */
+    public ListView<T> takeWhile(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+
+        ListView<T> source = this;
+
+        return new ListView<T>() {
+            @Override
+            boolean forEachWhile(Predicate<? super T> action) {
+                return source.forEachWhile(value -> predicate.test(value) && action.test(value));
+            }
+        };
+    }
+
+    /**
+     * The first maxSize elements, the source is not read past the last of them.
+     */
+    public ListView<T> limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Limit must not be negative: " + maxSize);
+        }
+
+        ListView<T> source = this;
+
+        return new ListView<T>() {
+            @Override
+            boolean forEachWhile(Predicate<? super T> action) {
+                if (maxSize == 0) {
+                    return false;
+                }
+
+                return source.forEachWhile(new Predicate<T>() {
+
+                    private long count = 0;
+
+                    @Override
+                    public boolean test(T value) {
+                        return action.test(value) && ++count < maxSize;
+                    }
+                });
+            }
+        };
+    }
+
+    /**
+     * Pairs of this view's and the other sequence's elements combined by the zipper,
+     * as many as the shorter of the two has.
+     */
+    public <U, R> ListView<R> zip(Iterable<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
+        Objects.requireNonNull(other);
+        Objects.requireNonNull(zipper);
+
+        ListView<T> source = this;
+
+        return new ListView<R>() {
+            @Override
+            boolean forEachWhile(Predicate<? super R> action) {
+                Iterator<? extends U> others = other.iterator();
+
+                return others.hasNext()
+                        && source.forEachWhile(value -> action.test(zipper.apply(value, others.next())) && others.hasNext());
+            }
+        };
+    }
+
+    /**
+     * The elements of the views the mapper returns for the elements, one view after the other.
+     */
+    public <R> ListView<R> flatMap(Function<? super T, ? extends ListView<? extends R>> mapper) {
+        Objects.requireNonNull(mapper);
+
+        ListView<T> source = this;
+
+        return new ListView<R>() {
+            @Override
+            boolean forEachWhile(Predicate<? super R> action) {
+                return source.forEachWhile(new Predicate<T>() {
+
+                    private boolean stopped = false;
+
+                    @Override
+                    public boolean test(T value) {
+                        // an inner view may end early on its own (e.g. limit), only a stop of the action ends the walk
+                        mapper.apply(value).forEachWhile(element -> {
+                            stopped = !action.test(element);
+                            return !stopped;
+                        });
+
+                        return !stopped;
+                    }
+                });
+            }
+        };
+    }
+
+    public List<T> toList() {
+        List<T> list = new ArrayList<>();
+
+        forEach(list::add);
+
+        return list;
+    }
+
+    public void forEach(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+
+        forEachWhile(value -> {
+            action.accept(value);
+            return true;
+        });
+    }
+
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        Objects.requireNonNull(accumulator);
+
+        Reduction<T> reduction = new Reduction<>(accumulator);
+        reduction.result = identity;
+        reduction.present = true;
+
+        forEachWhile(reduction);
+
+        return reduction.result;
+    }
+
+    /**
+     * Reduction without identity, empty if the view has no elements.
+     */
+    public Optional<T> reduce(BinaryOperator<T> accumulator) {
+        Objects.requireNonNull(accumulator);
+
+        Reduction<T> reduction = new Reduction<>(accumulator);
+
+        forEachWhile(reduction);
+
+        return reduction.present ? Optional.ofNullable(reduction.result) : Optional.empty();
+    }
+
+    public long count() {
+        Counter<T> counter = new Counter<>();
+
+        forEachWhile(counter);
+
+        return counter.count;
+    }
+
+    public Optional<T> findFirst() {
+        Finder<T> finder = new Finder<>(value -> true);
+
+        forEachWhile(finder);
+
+        return finder.found ? Optional.ofNullable(finder.value) : Optional.empty();
+    }
+
+    public boolean anyMatch(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+
+        Finder<T> finder = new Finder<>(predicate);
+
+        forEachWhile(finder);
+
+        return finder.found;
+    }
+
+    /**
+     * Reduction: folds the elements into result, present once it holds a value.
+     */
+    private static final class Reduction<T> implements Predicate<T> {
+
+        private final BinaryOperator<T> accumulator;
+
+        private T result;
+
+        private boolean present = false;
+
+        private Reduction(BinaryOperator<T> accumulator) {
+            this.accumulator = accumulator;
+        }
+
+        @Override
+        public boolean test(T value) {
+            result = present ? accumulator.apply(result, value) : value;
+            present = true;
+
+            return true;
+        }
+    }
+
+    /**
+     * Finder: stops the walk at the first element matching the predicate and keeps it.
+     */
+    private static final class Finder<T> implements Predicate<T> {
+
+        private final Predicate<? super T> predicate;
+
+        private T value;
+
+        private boolean found = false;
+
+        private Finder(Predicate<? super T> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(T value) {
+            if (predicate.test(value)) {
+                this.value = value;
+                found = true;
+            }
+
+            return !found;
+        }
+    }
+
+    /**
+     * Counter: counts the elements.
+     */
+    private static final class Counter<T> implements Predicate<T> {
+
+        private long count = 0;
+
+        @Override
+        public boolean test(T value) {
+            count++;
+
+            return true;
+        }
+    }
+}
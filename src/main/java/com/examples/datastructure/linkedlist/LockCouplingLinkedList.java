@@ -0,0 +1,324 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent doubly linked list with a lock per item (hand-over-hand locking):
+ * <p>
+ * A walk holds at most two neighbouring locks, it takes the next lock before it releases the previous one,
+ * so threads working on disjoint regions of the chain do not block each other.
+ * Locks are always taken from the header towards the tail, which rules out deadlocks.
+ * A link field is only written while the item owning it is locked: unlinking an item locks
+ * its predecessor, the item and its successor.
+ * <p>
+ * Operations:
+ * <p>
+ * add
+ * addFirst
+ * addLast
+ * contains
+ * get
+ * isEmpty
+ * remove
+ * removeFirstOccurrence
+ * removeLastOccurrence
+ * size
+ * <p>
+ * Index based operations see the list as it is at the moment the walk passes by,
+ * removeLastOccurrence removes the last occurrence seen by its walk.
+ * Null values are not permitted.
+ *
+ * @author Matyas Ember
+ */
+public class LockCouplingLinkedList<T extends Comparable<T>> {
+
+    private final Node<T> header = new Node<>(null);
+
+    private final Node<T> tail = new Node<>(null);
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    public LockCouplingLinkedList() {
+        header.next = tail;
+        tail.prev = header;
+    }
+
+    public boolean add(T value) {
+        Node<T> item = new Node<>(Objects.requireNonNull(value));
+
+        while (true) {
+            Node<T> last = tail.prev;
+
+            last.lock.lock();
+            tail.lock.lock();
+
+            try {
+                if (!last.removed && last.next == tail) {
+                    link(last, item, tail);
+                    return true;
+                }
+            } finally {
+                tail.lock.unlock();
+                last.lock.unlock();
+            }
+        }
+    }
+
+    public void addFirst(T value) {
+        Node<T> item = new Node<>(Objects.requireNonNull(value));
+
+        header.lock.lock();
+
+        try {
+            Node<T> first = header.next;
+            first.lock.lock();
+
+            try {
+                link(header, item, first);
+            } finally {
+                first.lock.unlock();
+            }
+        } finally {
+            header.lock.unlock();
+        }
+    }
+
+    public void addLast(T value) {
+        add(value);
+    }
+
+    public boolean contains(T value) {
+        Node<T> pred = header;
+        pred.lock.lock();
+
+        try {
+            Node<T> act = pred.next;
+            act.lock.lock();
+
+            while (act != tail && !act.data.equals(value)) {
+                pred.lock.unlock();
+                pred = act;
+                act = act.next;
+                act.lock.lock();
+            }
+
+            act.lock.unlock();
+
+            return act != tail;
+        } finally {
+            pred.lock.unlock();
+        }
+    }
+
+    public T get(int index) {
+        if (index < 0) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        Node<T> pred = header;
+        pred.lock.lock();
+
+        try {
+            Node<T> act = pred.next;
+            act.lock.lock();
+
+            for (int i = 0; i < index && act != tail; i++) {
+                pred.lock.unlock();
+                pred = act;
+                act = act.next;
+                act.lock.lock();
+            }
+
+            act.lock.unlock();
+
+            if (act == tail) {
+                throw new ArrayIndexOutOfBoundsException(index);
+            }
+
+            return act.data;
+        } finally {
+            pred.lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    public T remove(int index) {
+        if (index < 0) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        Node<T> pred = header;
+        pred.lock.lock();
+
+        try {
+            Node<T> act = pred.next;
+            act.lock.lock();
+
+            try {
+                for (int i = 0; i < index && act != tail; i++) {
+                    pred.lock.unlock();
+                    pred = act;
+                    act = act.next;
+                    act.lock.lock();
+                }
+
+                if (act == tail) {
+                    throw new ArrayIndexOutOfBoundsException(index);
+                }
+
+                unlink(pred, act);
+
+                return act.data;
+            } finally {
+                act.lock.unlock();
+            }
+        } finally {
+            pred.lock.unlock();
+        }
+    }
+
+    public boolean removeFirstOccurrence(T value) {
+        Node<T> pred = header;
+        pred.lock.lock();
+
+        try {
+            Node<T> act = pred.next;
+            act.lock.lock();
+
+            try {
+                while (act != tail && !act.data.equals(value)) {
+                    pred.lock.unlock();
+                    pred = act;
+                    act = act.next;
+                    act.lock.lock();
+                }
+
+                if (act == tail) {
+                    return false;
+                }
+
+                unlink(pred, act);
+
+                return true;
+            } finally {
+                act.lock.unlock();
+            }
+        } finally {
+            pred.lock.unlock();
+        }
+    }
+
+    /**
+     * Finds the last occurrence with a hand-over-hand walk, then locks it again with its predecessor
+     * and validates that it is still linked in (optimistic validation); retries when it is not.
+     */
+    public boolean removeLastOccurrence(T value) {
+        while (true) {
+            Node<T> last = findLastOccurrence(value);
+
+            if (last == null) {
+                return false;
+            }
+
+            Node<T> pred = last.prev;
+
+            pred.lock.lock();
+            last.lock.lock();
+
+            try {
+                if (!pred.removed && !last.removed && pred.next == last) {
+                    unlink(pred, last);
+                    return true;
+                }
+            } finally {
+                last.lock.unlock();
+                pred.lock.unlock();
+            }
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private Node<T> findLastOccurrence(T value) {
+        Node<T> last = null;
+        Node<T> pred = header;
+        pred.lock.lock();
+
+        try {
+            Node<T> act = pred.next;
+            act.lock.lock();
+
+            while (act != tail) {
+                if (act.data.equals(value)) {
+                    last = act;
+                }
+
+                pred.lock.unlock();
+                pred = act;
+                act = act.next;
+                act.lock.lock();
+            }
+
+            act.lock.unlock();
+
+            return last;
+        } finally {
+            pred.lock.unlock();
+        }
+    }
+
+    /**
+     * Links the item in between pred and succ, both must be locked.
+     */
+    private void link(Node<T> pred, Node<T> item, Node<T> succ) {
+        item.prev = pred;
+        item.next = succ;
+        pred.next = item;
+        succ.prev = item;
+        size.incrementAndGet();
+    }
+
+    /**
+     * Links out the item, the item and its predecessor must be locked, the successor is locked here.
+     */
+    private void unlink(Node<T> pred, Node<T> item) {
+        Node<T> succ = item.next;
+        succ.lock.lock();
+
+        try {
+            pred.next = succ;
+            succ.prev = pred;
+            item.removed = true;
+            size.decrementAndGet();
+        } finally {
+            succ.lock.unlock();
+        }
+    }
+
+    /**
+     * Node: list element with its own lock, removed is set when it is linked out.
+     */
+    private static final class Node<T> {
+
+        private final T data;
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private volatile Node<T> next;
+
+        private volatile Node<T> prev;
+
+        private volatile boolean removed;
+
+        private Node(T data) {
+            this.data = data;
+        }
+    }
+}
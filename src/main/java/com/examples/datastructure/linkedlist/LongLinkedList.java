@@ -0,0 +1,176 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Linked list of primitive long values without boxing:
+ * the values and the links are stored in arrays, adding an element allocates no object
+ * (apart from amortized array growth).
+ * <p>
+ * Operations (same semantics as LinkedList):
+ * <p>
+ * add
+ * addFirst
+ * addLast
+ * clear
+ * contains
+ * get
+ * getFirst
+ * getLast
+ * indexOf
+ * isEmpty
+ * lastIndexOf
+ * remove
+ * removeFirst
+ * removeFirstOccurrence
+ * removeLast
+ * removeLastOccurrence
+ * size
+ * forEach
+ * toArray
+ * <p>
+ * Bonus operations:
+ * reverse
+ * moveLastToFront
+ *
+ * @author Matyas Ember
+ */
+public class LongLinkedList extends AbstractArrayLinkedList {
+
+    private long[] values;
+
+    public LongLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongLinkedList(int capacity) {
+        super(capacity);
+        values = new long[capacity];
+    }
+
+    public boolean add(long value) {
+        int slot = allocate();
+        values[slot] = value;
+        linkLast(slot);
+
+        return true;
+    }
+
+    public void addFirst(long value) {
+        int slot = allocate();
+        values[slot] = value;
+        linkFirst(slot);
+    }
+
+    public void addLast(long value) {
+        add(value);
+    }
+
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    public long get(int index) {
+        return values[slot(index)];
+    }
+
+    public long getFirst() {
+        return values[firstSlot()];
+    }
+
+    public long getLast() {
+        return values[lastSlot()];
+    }
+
+    public int indexOf(long value) {
+        int i = 0;
+
+        for (int slot = header; slot != NONE; slot = next[slot]) {
+            if (values[slot] == value) {
+                return i;
+            }
+
+            i++;
+        }
+
+        return -1;
+    }
+
+    public int lastIndexOf(long value) {
+        int i = size - 1;
+
+        for (int slot = tail; slot != NONE; slot = prev[slot]) {
+            if (values[slot] == value) {
+                return i;
+            }
+
+            i--;
+        }
+
+        return -1;
+    }
+
+    public long remove(int index) {
+        int slot = slot(index);
+        long value = values[slot];
+        unlink(slot);
+
+        return value;
+    }
+
+    public boolean removeFirstOccurrence(long value) {
+        for (int slot = header; slot != NONE; slot = next[slot]) {
+            if (values[slot] == value) {
+                unlink(slot);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public boolean removeLastOccurrence(long value) {
+        for (int slot = tail; slot != NONE; slot = prev[slot]) {
+            if (values[slot] == value) {
+                unlink(slot);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public void forEach(LongConsumer action) {
+        for (int slot = header; slot != NONE; slot = next[slot]) {
+            action.accept(values[slot]);
+        }
+    }
+
+    public long[] toArray() {
+        long[] array = new long[size];
+        int i = 0;
+
+        for (int slot = header; slot != NONE; slot = next[slot]) {
+            array[i++] = values[slot];
+        }
+
+        return array;
+    }
+
+    public void print() {
+        System.out.println();
+
+        forEach(value -> System.out.print(value + " "));
+    }
+
+    @Override
+    void resizeValues(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void clearValues(int used) {
+        // primitive values hold no references, the slots are simply overwritten
+    }
+}
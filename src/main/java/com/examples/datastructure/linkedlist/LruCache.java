@@ -0,0 +1,216 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Bounded LRU cache: the entries form a ListItem chain in recency order (most recently used first),
+ * a hash map points from each key to its item, so get, put and remove are O(1):
+ * an accessed item is moved to the front, the last item is evicted when the cache is full.
+ * <p>
+ * Operations:
+ * <p>
+ * get
+ * put
+ * remove
+ * containsKey
+ * clear
+ * size
+ * capacity
+ * <p>
+ * Statistics: hitCount, missCount, evictionCount.
+ * The optional eviction listener is called with the key and value of every evicted entry.
+ * The cache is not thread-safe.
+ *
+ * @author Matyas Ember
+ */
+public class LruCache<K extends Comparable<K>, V> {
+
+    private final int capacity;
+
+    private final BiConsumer<K, V> evictionListener;
+
+    private final Map<K, CacheItem<K, V>> items;
+
+    private CacheItem<K, V> header = null;
+
+    private CacheItem<K, V> tail = null;
+
+    private long hitCount = 0;
+
+    private long missCount = 0;
+
+    private long evictionCount = 0;
+
+    public LruCache(int capacity) {
+        this(capacity, null);
+    }
+
+    public LruCache(int capacity, BiConsumer<K, V> evictionListener) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.evictionListener = evictionListener;
+        this.items = new HashMap<>(Math.max(16, (int) (capacity / 0.75f) + 1));
+    }
+
+    /**
+     * Value of the key (null on a miss), a hit makes the entry the most recently used.
+     */
+    public V get(K key) {
+        CacheItem<K, V> item = items.get(key);
+
+        if (item == null) {
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+        moveToFront(item);
+
+        return item.value;
+    }
+
+    /**
+     * Stores the value as the most recently used entry, returns the previous value of the key or null.
+     * Evicts the least recently used entry when a new key does not fit.
+     */
+    public V put(K key, V value) {
+        CacheItem<K, V> item = items.get(key);
+
+        if (item != null) {
+            V previous = item.value;
+            item.value = value;
+            moveToFront(item);
+
+            return previous;
+        }
+
+        if (items.size() == capacity) {
+            evict();
+        }
+
+        item = new CacheItem<>(key, value);
+        items.put(key, item);
+        linkFirst(item);
+
+        return null;
+    }
+
+    public V remove(K key) {
+        CacheItem<K, V> item = items.remove(key);
+
+        if (item == null) {
+            return null;
+        }
+
+        linkOut(item);
+
+        return item.value;
+    }
+
+    /**
+     * Checks the key without touching the recency order or the statistics.
+     */
+    public boolean containsKey(K key) {
+        return items.containsKey(key);
+    }
+
+    public void clear() {
+        items.clear();
+        header = null;
+        tail = null;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    private void evict() {
+        CacheItem<K, V> eldest = tail;
+
+        items.remove(eldest.getData());
+        linkOut(eldest);
+        evictionCount++;
+
+        if (evictionListener != null) {
+            evictionListener.accept(eldest.getData(), eldest.value);
+        }
+    }
+
+    private void moveToFront(CacheItem<K, V> item) {
+        if (item != header) {
+            linkOut(item);
+            linkFirst(item);
+        }
+    }
+
+    private void linkFirst(CacheItem<K, V> item) {
+        item.setNext(header);
+
+        if (header != null) {
+            header.setPrev(item);
+        } else {
+            tail = item;
+        }
+
+        header = item;
+    }
+
+    private void linkOut(CacheItem<K, V> item) {
+        ListItem<K> prev = item.getPrev();
+        ListItem<K> next = item.getNext();
+
+        if (prev != null) {
+            prev.setNext(next);
+        } else {
+            header = asCacheItem(next);
+        }
+
+        if (next != null) {
+            next.setPrev(prev);
+        } else {
+            tail = asCacheItem(prev);
+        }
+
+        item.setPrev(null);
+        item.setNext(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheItem<K, V> asCacheItem(ListItem<K> item) {
+        return (CacheItem<K, V>) item;
+    }
+
+    /**
+     * CacheItem: list element holding the key as data and the cached value.
+     */
+    private static final class CacheItem<K extends Comparable<K>, V> extends ListItem<K> {
+
+        private V value;
+
+        private CacheItem(K key, V value) {
+            super(key);
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,433 @@
+package com.examples.datastructure.linkedlist;
+
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Off-heap linked list: the items are fixed-size records in direct ByteBuffer segments,
+ * a record holds the next and prev links (record numbers, -1 is the null link)
+ * and the value encoded by a ValueCodec into at most valueSize bytes.
+ * <p>
+ * The heap only holds the segment table (one buffer per 65536 records), so the heap usage
+ * and the GC work do not grow with the element count; the values are decoded on every access.
+ * Removed records are reused through a free-list, clear() releases the segments.
+ * <p>
+ * Operations (same semantics as LinkedList):
+ * <p>
+ * add
+ * addFirst
+ * addLast
+ * clear
+ * contains
+ * get
+ * getFirst
+ * getLast
+ * indexOf
+ * isEmpty
+ * remove
+ * removeFirst
+ * removeLast
+ * size
+ * iterator
+ * <p>
+ * Bonus operations:
+ * reverse (O(1), the roles of the two link fields are swapped)
+ * <p>
+ * The direct memory is limited by -XX:MaxDirectMemorySize (by default the maximum heap size).
+ * Null values are stored if the codec can encode them, the searches compare with Objects.equals;
+ * the built-in codecs can not, their NullPointerException leaves the list unchanged.
+ *
+ * @author Matyas Ember
+ */
+public class OffHeapLinkedList<T extends Comparable<T>> implements Iterable<T> {
+
+    private static final int NONE = -1;
+
+    private static final int SEGMENT_SHIFT = 16;
+
+    private static final int SEGMENT_RECORDS = 1 << SEGMENT_SHIFT;
+
+    private static final int LINKS_SIZE = 2 * Integer.BYTES;
+
+    private static final int MAX_VALUE_SIZE = Integer.MAX_VALUE / SEGMENT_RECORDS - LINKS_SIZE;
+
+    private final ValueCodec<T> codec;
+
+    private final int valueSize;
+
+    private final int recordSize;
+
+    private ByteBuffer[] segments = new ByteBuffer[4];
+
+    /**
+     * Views of the segments for the codec, their position and limit are moved around the value being accessed.
+     */
+    private ByteBuffer[] valueViews = new ByteBuffer[4];
+
+    private int segmentCount = 0;
+
+    /**
+     * Offsets of the next and prev links in a record, swapped by reverse().
+     */
+    private int nextOffset = 0;
+
+    private int prevOffset = Integer.BYTES;
+
+    private int header = NONE;
+
+    private int tail = NONE;
+
+    private int size = 0;
+
+    /**
+     * Records below used have been handed out at least once, the free ones are chained from freeHead.
+     */
+    private int used = 0;
+
+    private int freeHead = NONE;
+
+    private int modCount = 0;
+
+    public OffHeapLinkedList(ValueCodec<T> codec, int valueSize) {
+        if (valueSize < 1 || valueSize > MAX_VALUE_SIZE) {
+            throw new IllegalArgumentException("Value size must be between 1 and " + MAX_VALUE_SIZE + ": " + valueSize);
+        }
+
+        this.codec = codec;
+        this.valueSize = valueSize;
+        this.recordSize = LINKS_SIZE + valueSize;
+    }
+
+    public boolean add(T value) {
+        int record = allocate(value);
+
+        setLink(record, prevOffset, tail);
+        setLink(record, nextOffset, NONE);
+
+        if (tail != NONE) {
+            setLink(tail, nextOffset, record);
+        } else {
+            header = record;
+        }
+
+        tail = record;
+        size++;
+        modCount++;
+
+        return true;
+    }
+
+    public void addFirst(T value) {
+        int record = allocate(value);
+
+        setLink(record, prevOffset, NONE);
+        setLink(record, nextOffset, header);
+
+        if (header != NONE) {
+            setLink(header, prevOffset, record);
+        } else {
+            tail = record;
+        }
+
+        header = record;
+        size++;
+        modCount++;
+    }
+
+    public void addLast(T value) {
+        add(value);
+    }
+
+    public void clear() {
+        segments = new ByteBuffer[4];
+        valueViews = new ByteBuffer[4];
+        segmentCount = 0;
+        header = NONE;
+        tail = NONE;
+        size = 0;
+        used = 0;
+        freeHead = NONE;
+        modCount++;
+    }
+
+    public boolean contains(T value) {
+        return indexOf(value) >= 0;
+    }
+
+    public T get(int index) {
+        return read(record(index));
+    }
+
+    public T getFirst() {
+        return header != NONE ? read(header) : null;
+    }
+
+    public T getLast() {
+        return tail != NONE ? read(tail) : null;
+    }
+
+    public int indexOf(T value) {
+        int i = 0;
+
+        for (int record = header; record != NONE; record = link(record, nextOffset)) {
+            if (Objects.equals(read(record), value)) {
+                return i;
+            }
+
+            i++;
+        }
+
+        return -1;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public T remove(int index) {
+        int record = record(index);
+        T value = read(record);
+
+        unlink(record);
+
+        return value;
+    }
+
+    /**
+     * Removes the first element, returns it or null if the list is empty.
+     */
+    public T removeFirst() {
+        return header != NONE ? remove(0) : null;
+    }
+
+    /**
+     * Removes the last element, returns it or null if the list is empty.
+     */
+    public T removeLast() {
+        return tail != NONE ? remove(size - 1) : null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reverses the list in O(1): reading the next link as prev and the prev link as next reverses every link.
+     */
+    public void reverse() {
+        int offset = nextOffset;
+        nextOffset = prevOffset;
+        prevOffset = offset;
+
+        int first = header;
+        header = tail;
+        tail = first;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            private int next = header;
+
+            private int lastReturned = NONE;
+
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next != NONE;
+            }
+
+            @Override
+            public T next() {
+                checkForComodification();
+
+                if (next == NONE) {
+                    throw new NoSuchElementException();
+                }
+
+                lastReturned = next;
+                next = link(next, nextOffset);
+
+                return read(lastReturned);
+            }
+
+            @Override
+            public void remove() {
+                checkForComodification();
+
+                if (lastReturned == NONE) {
+                    throw new IllegalStateException();
+                }
+
+                unlink(lastReturned);
+                lastReturned = NONE;
+                expectedModCount = modCount;
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        };
+    }
+
+    public void print() {
+        System.out.println();
+
+        for (T value : this) {
+            System.out.print(value + " ");
+        }
+    }
+
+    /**
+     * Takes a free record (or a new one, adding a segment when needed) and encodes the value into it.
+     */
+    private int allocate(T value) {
+        int record;
+
+        if (freeHead != NONE) {
+            record = freeHead;
+            freeHead = link(record, nextOffset);
+        } else {
+            if (used == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Off-heap list is full: " + used);
+            }
+
+            if (used == segmentCount << SEGMENT_SHIFT) {
+                addSegment();
+            }
+
+            record = used++;
+        }
+
+        try {
+            write(record, value);
+        } catch (RuntimeException e) {
+            release(record);
+            throw e;
+        }
+
+        return record;
+    }
+
+    private void addSegment() {
+        if (segmentCount == segments.length) {
+            segments = Arrays.copyOf(segments, segmentCount * 2);
+            valueViews = Arrays.copyOf(valueViews, segmentCount * 2);
+        }
+
+        ByteBuffer segment = ByteBuffer.allocateDirect(SEGMENT_RECORDS * recordSize).order(ByteOrder.nativeOrder());
+
+        segments[segmentCount] = segment;
+        valueViews[segmentCount] = segment.duplicate();
+        segmentCount++;
+    }
+
+    private void unlink(int record) {
+        int before = link(record, prevOffset);
+        int after = link(record, nextOffset);
+
+        if (before != NONE) {
+            setLink(before, nextOffset, after);
+        } else {
+            header = after;
+        }
+
+        if (after != NONE) {
+            setLink(after, prevOffset, before);
+        } else {
+            tail = before;
+        }
+
+        size--;
+        modCount++;
+        release(record);
+    }
+
+    /**
+     * Puts the record on the free chain, kept in both link fields, so reverse() can swap them.
+     */
+    private void release(int record) {
+        setLink(record, nextOffset, freeHead);
+        setLink(record, prevOffset, freeHead);
+        freeHead = record;
+    }
+
+    /**
+     * Record of the index, walking from the nearer end.
+     */
+    private int record(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        int record;
+
+        if (index < size / 2) {
+            record = header;
+
+            for (int i = 0; i < index; i++) {
+                record = link(record, nextOffset);
+            }
+        } else {
+            record = tail;
+
+            for (int i = size - 1; i > index; i--) {
+                record = link(record, prevOffset);
+            }
+        }
+
+        return record;
+    }
+
+    private int link(int record, int offset) {
+        return segments[record >>> SEGMENT_SHIFT].getInt(position(record) + offset);
+    }
+
+    private void setLink(int record, int offset, int link) {
+        segments[record >>> SEGMENT_SHIFT].putInt(position(record) + offset, link);
+    }
+
+    private void write(int record, T value) {
+        ByteBuffer segment = value(record);
+
+        try {
+            codec.encode(value, segment);
+        } catch (BufferOverflowException e) {
+            throw new IllegalArgumentException("Value does not fit into " + valueSize + " bytes: " + value);
+        }
+    }
+
+    private T read(int record) {
+        return codec.decode(value(record));
+    }
+
+    /**
+     * Value view of the record's segment, its position and limit set around the value of the record.
+     */
+    private ByteBuffer value(int record) {
+        ByteBuffer view = valueViews[record >>> SEGMENT_SHIFT];
+        int start = position(record) + LINKS_SIZE;
+
+        // through Buffer, the covariant ByteBuffer overrides do not exist on Java 8
+        ((Buffer) view).limit(start + valueSize);
+        ((Buffer) view).position(start);
+
+        return view;
+    }
+
+    private int position(int record) {
+        return (record & (SEGMENT_RECORDS - 1)) * recordSize;
+    }
+}
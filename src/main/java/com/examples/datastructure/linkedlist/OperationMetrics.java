@@ -0,0 +1,77 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.Arrays;
+
+/**
+ * Snapshot of the metrics of one LinkedList operation: number of calls, number of items traversed
+ * and a latency histogram, where bucket i counts the calls that took less than 2^i nanoseconds
+ * (and at least 2^(i-1)).
+ *
+ * @author Matyas Ember
+ */
+public final class OperationMetrics {
+
+    private final long calls;
+
+    private final long traversedNodes;
+
+    private final long[] latencyHistogram;
+
+    OperationMetrics(long calls, long traversedNodes, long[] latencyHistogram) {
+        this.calls = calls;
+        this.traversedNodes = traversedNodes;
+        this.latencyHistogram = latencyHistogram;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public long getTraversedNodes() {
+        return traversedNodes;
+    }
+
+    public double getMeanTraversedNodes() {
+        return calls > 0 ? (double) traversedNodes / calls : 0.0;
+    }
+
+    public long[] getLatencyHistogram() {
+        return Arrays.copyOf(latencyHistogram, latencyHistogram.length);
+    }
+
+    public long getMedianLatencyNanos() {
+        return latencyPercentileNanos(50.0);
+    }
+
+    public long getP99LatencyNanos() {
+        return latencyPercentileNanos(99.0);
+    }
+
+    /**
+     * Upper bound of the histogram bucket holding the percentile (0 if there were no calls).
+     */
+    public long latencyPercentileNanos(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+
+        long rank = (long) Math.ceil(calls * percentile / 100.0);
+        long count = 0;
+
+        for (int i = 0; i < latencyHistogram.length; i++) {
+            count += latencyHistogram[i];
+
+            if (count >= rank && count > 0) {
+                return i < 63 ? 1L << i : Long.MAX_VALUE;
+            }
+        }
+
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "calls=" + calls + ", traversedNodes=" + traversedNodes
+                + ", median<" + getMedianLatencyNanos() + "ns, p99<" + getP99LatencyNanos() + "ns";
+    }
+}
@@ -0,0 +1,173 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Persistent (immutable) singly linked list: every version is a cell holding the first element
+ * and the rest of the list, the operations return a new version and share the unchanged cells,
+ * so addFirst and removeFirst are O(1) and a version never changes once it is built.
+ * <p>
+ * A version can be read from any number of threads without copying or locking.
+ * A writer publishes new versions through an AtomicReference, e.g.
+ * {@code current.updateAndGet(list -> list.addFirst(value))}, readers take current.get() as their snapshot.
+ * <p>
+ * Operations:
+ * <p>
+ * empty
+ * addFirst
+ * contains
+ * get
+ * getFirst
+ * indexOf
+ * isEmpty
+ * removeFirst
+ * reverse
+ * size
+ * iterator
+ * stream
+ * <p>
+ * LinkedList.toPersistent and LinkedList.fromPersistent convert from and to the mutable list in O(n).
+ *
+ * @author Matyas Ember
+ */
+public final class PersistentLinkedList<T extends Comparable<T>> implements Iterable<T> {
+
+    @SuppressWarnings("rawtypes")
+    private static final PersistentLinkedList EMPTY = new PersistentLinkedList<>(null, null, 0);
+
+    private final T first;
+
+    private final PersistentLinkedList<T> rest;
+
+    private final int size;
+
+    private PersistentLinkedList(T first, PersistentLinkedList<T> rest, int size) {
+        this.first = first;
+        this.rest = rest;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>> PersistentLinkedList<T> empty() {
+        return (PersistentLinkedList<T>) EMPTY;
+    }
+
+    /**
+     * New version with the value in front of this one.
+     */
+    public PersistentLinkedList<T> addFirst(T value) {
+        return new PersistentLinkedList<>(value, this, size + 1);
+    }
+
+    public boolean contains(T value) {
+        return indexOf(value) >= 0;
+    }
+
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        PersistentLinkedList<T> act = this;
+
+        for (int i = 0; i < index; i++) {
+            act = act.rest;
+        }
+
+        return act.first;
+    }
+
+    public T getFirst() {
+        return first;
+    }
+
+    public int indexOf(T value) {
+        int i = 0;
+
+        for (PersistentLinkedList<T> act = this; act.size > 0; act = act.rest) {
+            if (Objects.equals(act.first, value)) {
+                return i;
+            }
+
+            i++;
+        }
+
+        return -1;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Version without the first element (the empty list stays empty), shares every cell with this one.
+     */
+    public PersistentLinkedList<T> removeFirst() {
+        return size > 0 ? rest : this;
+    }
+
+    /**
+     * Reversed version, built from new cells in O(n).
+     */
+    public PersistentLinkedList<T> reverse() {
+        PersistentLinkedList<T> reversed = empty();
+
+        for (PersistentLinkedList<T> act = this; act.size > 0; act = act.rest) {
+            reversed = reversed.addFirst(act.first);
+        }
+
+        return reversed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            private PersistentLinkedList<T> act = PersistentLinkedList.this;
+
+            @Override
+            public boolean hasNext() {
+                return act.size > 0;
+            }
+
+            @Override
+            public T next() {
+                if (act.size == 0) {
+                    throw new NoSuchElementException();
+                }
+
+                T value = act.first;
+                act = act.rest;
+
+                return value;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public void print() {
+        System.out.println();
+
+        for (T value : this) {
+            System.out.print(value + " ");
+        }
+    }
+}
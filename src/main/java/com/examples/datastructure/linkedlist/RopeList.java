@@ -0,0 +1,586 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Rope-like indexed sequence: the elements are stored in chunks (small arrays, like UnrolledLinkedList),
+ * and the chunks are the nodes of a randomized balanced tree (implicit treap) ordered by position,
+ * every node knows the number of elements in its subtree.
+ * <p>
+ * get, add at an index and remove at an index descend the tree in O(log n) expected,
+ * split and concat cut and join trees in O(log n) expected, reverse is O(1):
+ * a lazy flag on the root is pushed down (children swapped, chunk reversed) only when a modification visits a node.
+ * <p>
+ * Operations (same semantics as LinkedList):
+ * <p>
+ * add
+ * addFirst
+ * addLast
+ * clear
+ * contains
+ * get
+ * getFirst
+ * getLast
+ * indexOf
+ * isEmpty
+ * lastIndexOf
+ * remove
+ * removeFirst
+ * removeFirstOccurrence
+ * removeLast
+ * removeLastOccurrence
+ * size
+ * iterator
+ * <p>
+ * Bonus operations:
+ * reverse
+ * moveLastToFront
+ * split
+ * concat
+ * <p>
+ * An insert into a full chunk cuts the chunk at the index, so inserts at a moving cursor fill
+ * the new chunk instead of splitting again. Chunks emptied by removals are dropped, chunks are not merged.
+ * <p>
+ * Null elements are permitted, the searches compare with Objects.equals.
+ * The list is not thread-safe, but the read operations (get, the searches, iteration) do not write any state:
+ * they combine the reverse flags on their way down instead of pushing them.
+ *
+ * @author Matyas Ember
+ */
+public class RopeList<T extends Comparable<T>> implements Iterable<T> {
+
+    public static final int DEFAULT_CHUNK_CAPACITY = 32;
+
+    private final int chunkCapacity;
+
+    private final Random random = new Random();
+
+    private Node<T> root = null;
+
+    private int modCount = 0;
+
+    public RopeList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    public RopeList(int chunkCapacity) {
+        if (chunkCapacity < 2) {
+            throw new IllegalArgumentException("Chunk capacity must be at least 2: " + chunkCapacity);
+        }
+
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    public boolean add(T value) {
+        add(size(), value);
+
+        return true;
+    }
+
+    /**
+     * Inserts the value at the index, in place when its chunk has room, otherwise with a new chunk.
+     */
+    public void add(int index, T value) {
+        if (index < 0 || index > size()) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        modCount++;
+
+        if (root != null && insertInChunk(root, index, value)) {
+            return;
+        }
+
+        Node<T> item = newNode();
+        item.items[0] = value;
+        item.count = 1;
+        update(item);
+
+        Split<T> split = split(root, index);
+        root = merge(merge(split.left, item), split.right);
+    }
+
+    public void addFirst(T value) {
+        add(0, value);
+    }
+
+    public void addLast(T value) {
+        add(value);
+    }
+
+    public void clear() {
+        root = null;
+        modCount++;
+    }
+
+    public boolean contains(T value) {
+        return indexOf(value) >= 0;
+    }
+
+    public T get(int index) {
+        checkIndex(index);
+
+        Node<T> node = root;
+        boolean reversed = false;
+
+        while (true) {
+            reversed ^= node.reversed;
+
+            Node<T> left = left(node, reversed);
+            int leftSize = size(left);
+
+            if (index < leftSize) {
+                node = left;
+            } else if (index < leftSize + node.count) {
+                return item(node, index - leftSize, reversed);
+            } else {
+                index -= leftSize + node.count;
+                node = right(node, reversed);
+            }
+        }
+    }
+
+    public T getFirst() {
+        return root != null ? get(0) : null;
+    }
+
+    public T getLast() {
+        return root != null ? get(size() - 1) : null;
+    }
+
+    public int indexOf(T value) {
+        int i = 0;
+
+        for (T act : this) {
+            if (Objects.equals(act, value)) {
+                return i;
+            }
+
+            i++;
+        }
+
+        return -1;
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public int lastIndexOf(T value) {
+        int last = -1;
+        int i = 0;
+
+        for (T act : this) {
+            if (Objects.equals(act, value)) {
+                last = i;
+            }
+
+            i++;
+        }
+
+        return last;
+    }
+
+    public T remove(int index) {
+        T value = get(index);
+
+        root = remove(root, index);
+        modCount++;
+
+        return value;
+    }
+
+    /**
+     * Removes the first element, returns it or null if the list is empty.
+     */
+    public T removeFirst() {
+        return root != null ? remove(0) : null;
+    }
+
+    public boolean removeFirstOccurrence(T value) {
+        int index = indexOf(value);
+
+        if (index < 0) {
+            return false;
+        }
+
+        remove(index);
+
+        return true;
+    }
+
+    /**
+     * Removes the last element, returns it or null if the list is empty.
+     */
+    public T removeLast() {
+        return root != null ? remove(size() - 1) : null;
+    }
+
+    public boolean removeLastOccurrence(T value) {
+        int index = lastIndexOf(value);
+
+        if (index < 0) {
+            return false;
+        }
+
+        remove(index);
+
+        return true;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public void reverse() {
+        if (root != null) {
+            root.reversed = !root.reversed;
+        }
+
+        modCount++;
+    }
+
+    public void moveLastToFront() {
+        if (size() > 1) {
+            addFirst(removeLast());
+        }
+    }
+
+    /**
+     * Cuts the list at the index: this list keeps the elements before it, the rest is returned as a new list.
+     */
+    public RopeList<T> split(int index) {
+        if (index < 0 || index > size()) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+
+        RopeList<T> rest = new RopeList<>(chunkCapacity);
+
+        Split<T> split = split(root, index);
+        root = split.left;
+        rest.root = split.right;
+        modCount++;
+
+        return rest;
+    }
+
+    /**
+     * Appends the elements of the other list by joining the two trees, the other list becomes empty.
+     */
+    public void concat(RopeList<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("A list can not be concatenated to itself");
+        }
+
+        root = merge(root, other.root);
+        other.root = null;
+        modCount++;
+        other.modCount++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            private final ArrayDeque<Node<T>> path = new ArrayDeque<>();
+
+            /**
+             * Whether the nodes on the path are read backwards (their own flag combined with the ancestors').
+             */
+            private final ArrayDeque<Boolean> pathReversed = new ArrayDeque<>();
+
+            private Node<T> current;
+
+            private boolean currentReversed;
+
+            private int position;
+
+            private int expectedModCount = modCount;
+
+            {
+                pushLeftPath(root, false);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return current != null && position < current.count || !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+
+                if (current == null || position == current.count) {
+                    if (path.isEmpty()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    current = path.pop();
+                    currentReversed = pathReversed.pop();
+                    position = 0;
+                    pushLeftPath(right(current, currentReversed), currentReversed);
+                }
+
+                return item(current, position++, currentReversed);
+            }
+
+            private void pushLeftPath(Node<T> node, boolean reversed) {
+                while (node != null) {
+                    reversed ^= node.reversed;
+                    path.push(node);
+                    pathReversed.push(reversed);
+                    node = left(node, reversed);
+                }
+            }
+        };
+    }
+
+    public void print() {
+        System.out.println();
+
+        for (T value : this) {
+            System.out.print(value + " ");
+        }
+    }
+
+    /**
+     * Inserts into the chunk holding the index (its start for a chunk boundary),
+     * returns false without a change if that chunk is full.
+     */
+    private boolean insertInChunk(Node<T> node, int index, T value) {
+        push(node);
+
+        int leftSize = size(node.left);
+        boolean inserted;
+
+        if (index < leftSize) {
+            inserted = insertInChunk(node.left, index, value);
+        } else if (index <= leftSize + node.count) {
+            if (node.count == node.items.length) {
+                return false;
+            }
+
+            int offset = index - leftSize;
+            System.arraycopy(node.items, offset, node.items, offset + 1, node.count - offset);
+            node.items[offset] = value;
+            node.count++;
+            inserted = true;
+        } else {
+            inserted = insertInChunk(node.right, index - leftSize - node.count, value);
+        }
+
+        if (inserted) {
+            node.size++;
+        }
+
+        return inserted;
+    }
+
+    /**
+     * Removes the element at the index from the subtree, returns the new subtree root.
+     */
+    private Node<T> remove(Node<T> node, int index) {
+        push(node);
+
+        int leftSize = size(node.left);
+
+        if (index < leftSize) {
+            node.left = remove(node.left, index);
+        } else if (index < leftSize + node.count) {
+            int offset = index - leftSize;
+
+            System.arraycopy(node.items, offset + 1, node.items, offset, node.count - offset - 1);
+            node.items[--node.count] = null;
+
+            if (node.count == 0) {
+                return merge(node.left, node.right);
+            }
+        } else {
+            node.right = remove(node.right, index - leftSize - node.count);
+        }
+
+        node.size--;
+
+        return node;
+    }
+
+    /**
+     * Splits the subtree into its first k elements and the rest, a chunk holding the cut is cut into two nodes.
+     */
+    private Split<T> split(Node<T> node, int k) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+
+        push(node);
+
+        int leftSize = size(node.left);
+
+        if (k <= leftSize) {
+            Split<T> split = split(node.left, k);
+            node.left = split.right;
+            update(node);
+
+            return new Split<>(split.left, node);
+        }
+
+        if (k >= leftSize + node.count) {
+            Split<T> split = split(node.right, k - leftSize - node.count);
+            node.right = split.left;
+            update(node);
+
+            return new Split<>(node, split.right);
+        }
+
+        int offset = k - leftSize;
+        Node<T> suffix = new Node<>(node.items.length, random.nextInt());
+
+        suffix.count = node.count - offset;
+        System.arraycopy(node.items, offset, suffix.items, 0, suffix.count);
+        Arrays.fill(node.items, offset, node.count, null);
+        node.count = offset;
+        update(suffix);
+
+        Node<T> right = node.right;
+        node.right = null;
+        update(node);
+
+        return new Split<>(node, merge(suffix, right));
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            push(left);
+            left.right = merge(left.right, right);
+            update(left);
+
+            return left;
+        }
+
+        push(right);
+        right.left = merge(left, right.left);
+        update(right);
+
+        return right;
+    }
+
+    /**
+     * Pushes the lazy reverse flag of the node down: swaps its children and reverses its chunk.
+     */
+    private static <T> void push(Node<T> node) {
+        if (!node.reversed) {
+            return;
+        }
+
+        Node<T> left = node.left;
+        node.left = node.right;
+        node.right = left;
+
+        for (int i = 0, j = node.count - 1; i < j; i++, j--) {
+            Object value = node.items[i];
+            node.items[i] = node.items[j];
+            node.items[j] = value;
+        }
+
+        if (node.left != null) {
+            node.left.reversed = !node.left.reversed;
+        }
+
+        if (node.right != null) {
+            node.right.reversed = !node.right.reversed;
+        }
+
+        node.reversed = false;
+    }
+
+    /**
+     * Child holding the elements before the node's chunk, when the node is read reversed or not.
+     */
+    private static <T> Node<T> left(Node<T> node, boolean reversed) {
+        return reversed ? node.right : node.left;
+    }
+
+    private static <T> Node<T> right(Node<T> node, boolean reversed) {
+        return reversed ? node.left : node.right;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T item(Node<T> node, int offset, boolean reversed) {
+        return (T) node.items[reversed ? node.count - 1 - offset : offset];
+    }
+
+    private static <T> void update(Node<T> node) {
+        node.size = node.count + size(node.left) + size(node.right);
+    }
+
+    private static <T> int size(Node<T> node) {
+        return node != null ? node.size : 0;
+    }
+
+    private Node<T> newNode() {
+        return new Node<>(chunkCapacity, random.nextInt());
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    /**
+     * Node: a chunk of consecutive elements, its subtrees hold the elements before and after it;
+     * size counts the elements of the whole subtree, reversed means the subtree is to be read backwards.
+     */
+    private static final class Node<T> {
+
+        private final Object[] items;
+
+        private final int priority;
+
+        private int count;
+
+        private int size;
+
+        private boolean reversed;
+
+        private Node<T> left;
+
+        private Node<T> right;
+
+        private Node(int capacity, int priority) {
+            this.items = new Object[capacity];
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * Split: the two trees a split returns, the first k elements and the rest.
+     */
+    private static final class Split<T> {
+
+        private final Node<T> left;
+
+        private final Node<T> right;
+
+        private Split(Node<T> left, Node<T> right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+}
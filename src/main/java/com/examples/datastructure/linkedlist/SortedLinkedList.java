@@ -0,0 +1,444 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Sorted linked list: the elements are kept in natural order (equal elements in insertion order)
+ * in a ListItem chain, with a skip-list index layered over the chain.
+ * <p>
+ * About every fourth item gets an index node of random height, an index link skips span items.
+ * A search goes down the index and finishes on the chain with a few steps,
+ * so add, contains, get, indexOf, lastIndexOf and the removals are O(log n) expected.
+ * <p>
+ * Operations:
+ * <p>
+ * add
+ * clear
+ * contains
+ * get
+ * getFirst
+ * getLast
+ * indexOf
+ * isEmpty
+ * lastIndexOf
+ * remove
+ * removeFirst
+ * removeFirstOccurrence
+ * removeLast
+ * removeLastOccurrence
+ * size
+ * subList
+ * iterator
+ * <p>
+ * Null values are not permitted. The list is not thread-safe, but the read operations do not write any state,
+ * every search keeps its path in a SearchPath of its own.
+ *
+ * @author Matyas Ember
+ */
+public class SortedLinkedList<T extends Comparable<T>> implements Iterable<T> {
+
+    private static final int MAX_LEVEL = 32;
+
+    private final Index<T> head = new Index<>(null, MAX_LEVEL);
+
+    private final Random random = new Random();
+
+    private int level = 0;
+
+    private ListItem<T> header = null;
+
+    private ListItem<T> tail = null;
+
+    private int size = 0;
+
+    public boolean add(T value) {
+        Objects.requireNonNull(value);
+
+        SearchPath<T> path = new SearchPath<>(true);
+        ListItem<T> pred = seek(value, true, path);
+        int rank = path.rank + 1;
+        Index<T>[] update = path.update;
+        int[] updateRank = path.updateRank;
+
+        ListItem<T> item = new ListItem<>(value);
+        linkAfter(pred, item);
+
+        int itemLevel = randomLevel();
+
+        if (itemLevel > level) {
+            for (int i = level; i < itemLevel; i++) {
+                update[i] = head;
+                updateRank[i] = 0;
+                head.span[i] = size - 1;
+            }
+
+            level = itemLevel;
+        }
+
+        if (itemLevel > 0) {
+            Index<T> index = new Index<>(item, itemLevel);
+
+            for (int i = 0; i < itemLevel; i++) {
+                index.next[i] = update[i].next[i];
+                update[i].next[i] = index;
+
+                index.span[i] = update[i].span[i] - (rank - updateRank[i]) + 1;
+                update[i].span[i] = rank - updateRank[i];
+            }
+        }
+
+        for (int i = itemLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+
+        return true;
+    }
+
+    public void clear() {
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            head.next[i] = null;
+            head.span[i] = 0;
+        }
+
+        level = 0;
+        header = null;
+        tail = null;
+        size = 0;
+    }
+
+    public boolean contains(T value) {
+        return indexOf(value) >= 0;
+    }
+
+    public T get(int index) {
+        checkIndex(index);
+
+        return next(seekIndex(index, new SearchPath<>(false))).getData();
+    }
+
+    public T getFirst() {
+        return header != null ? header.getData() : null;
+    }
+
+    public T getLast() {
+        return tail != null ? tail.getData() : null;
+    }
+
+    public int indexOf(T value) {
+        SearchPath<T> path = new SearchPath<>(false);
+        ListItem<T> item = next(seek(value, false, path));
+
+        return item != null && item.getData().equals(value) ? path.rank : -1;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int lastIndexOf(T value) {
+        SearchPath<T> path = new SearchPath<>(false);
+        ListItem<T> item = seek(value, true, path);
+
+        return item != null && item.getData().equals(value) ? path.rank - 1 : -1;
+    }
+
+    public T remove(int index) {
+        checkIndex(index);
+
+        SearchPath<T> path = new SearchPath<>(true);
+        ListItem<T> item = next(seekIndex(index, path));
+        linkOut(item, path);
+
+        return item.getData();
+    }
+
+    public void removeFirst() {
+        if (header != null) {
+            remove(0);
+        }
+    }
+
+    public boolean removeFirstOccurrence(T value) {
+        SearchPath<T> path = new SearchPath<>(true);
+        ListItem<T> item = next(seek(value, false, path));
+
+        if (item == null || !item.getData().equals(value)) {
+            return false;
+        }
+
+        linkOut(item, path);
+
+        return true;
+    }
+
+    public void removeLast() {
+        if (tail != null) {
+            remove(size - 1);
+        }
+    }
+
+    public boolean removeLastOccurrence(T value) {
+        int index = lastIndexOf(value);
+
+        if (index < 0) {
+            return false;
+        }
+
+        remove(index);
+
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Elements from fromValue (inclusive) to toValue (exclusive) in order, found in O(log n + k).
+     */
+    public LinkedList<T> subList(T fromValue, T toValue) {
+        LinkedList<T> range = new LinkedList<>();
+
+        for (ListItem<T> act = next(seek(fromValue, false, new SearchPath<>(false))); act != null && act.getData().compareTo(toValue) < 0;
+             act = act.getNext()) {
+            range.add(act.getData());
+        }
+
+        return range;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            private ListItem<T> act = header;
+
+            @Override
+            public boolean hasNext() {
+                return act != null;
+            }
+
+            @Override
+            public T next() {
+                if (act == null) {
+                    throw new NoSuchElementException();
+                }
+
+                T value = act.getData();
+                act = act.getNext();
+
+                return value;
+            }
+        };
+    }
+
+    public void print() {
+        System.out.println();
+
+        for (T value : this) {
+            System.out.print(value + " ");
+        }
+    }
+
+    /**
+     * Last item less than (or, inclusive, not greater than) the value, null if there is none;
+     * fills the search path and its rank.
+     */
+    private ListItem<T> seek(T value, boolean inclusive, SearchPath<T> path) {
+        Index<T> x = head;
+        int rank = 0;
+
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && precedes(x.next[i].item.getData(), value, inclusive)) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+
+            path.record(i, x, rank);
+        }
+
+        ListItem<T> pred = x.item;
+        ListItem<T> act = next(pred);
+
+        while (act != null && precedes(act.getData(), value, inclusive)) {
+            pred = act;
+            act = act.getNext();
+            rank++;
+        }
+
+        path.rank = rank;
+
+        return pred;
+    }
+
+    /**
+     * Item before the index, null for index 0; fills the search path and its rank.
+     */
+    private ListItem<T> seekIndex(int index, SearchPath<T> path) {
+        Index<T> x = head;
+        int rank = 0;
+
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && rank + x.span[i] <= index) {
+                rank += x.span[i];
+                x = x.next[i];
+            }
+
+            path.record(i, x, rank);
+        }
+
+        ListItem<T> pred = x.item;
+
+        while (rank < index) {
+            pred = next(pred);
+            rank++;
+        }
+
+        path.rank = rank;
+
+        return pred;
+    }
+
+    /**
+     * Links out the item found by the search, together with its index node if it has one.
+     */
+    private void linkOut(ListItem<T> item, SearchPath<T> path) {
+        Index<T>[] update = path.update;
+
+        for (int i = 0; i < level; i++) {
+            Index<T> next = update[i].next[i];
+
+            if (next != null && next.item == item) {
+                update[i].span[i] += next.span[i] - 1;
+                update[i].next[i] = next.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+
+        while (level > 0 && head.next[level - 1] == null) {
+            level--;
+        }
+
+        ListItem<T> prev = item.getPrev();
+        ListItem<T> next = item.getNext();
+
+        if (prev != null) {
+            prev.setNext(next);
+        } else {
+            header = next;
+        }
+
+        if (next != null) {
+            next.setPrev(prev);
+        } else {
+            tail = prev;
+        }
+
+        item.setPrev(null);
+        item.setNext(null);
+        size--;
+    }
+
+    private void linkAfter(ListItem<T> pred, ListItem<T> item) {
+        ListItem<T> next = next(pred);
+
+        item.setPrev(pred);
+        item.setNext(next);
+
+        if (pred != null) {
+            pred.setNext(item);
+        } else {
+            header = item;
+        }
+
+        if (next != null) {
+            next.setPrev(item);
+        } else {
+            tail = item;
+        }
+
+        size++;
+    }
+
+    /**
+     * Chain successor, the first item for null (the position of head).
+     */
+    private ListItem<T> next(ListItem<T> item) {
+        return item != null ? item.getNext() : header;
+    }
+
+    private int randomLevel() {
+        int itemLevel = 0;
+
+        while (itemLevel < MAX_LEVEL && random.nextInt(4) == 0) {
+            itemLevel++;
+        }
+
+        return itemLevel;
+    }
+
+    private static <T extends Comparable<T>> boolean precedes(T value, T bound, boolean inclusive) {
+        int comparison = value.compareTo(bound);
+
+        return inclusive ? comparison <= 0 : comparison < 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    /**
+     * Index: skip-list node over a chain item, next[i] skips span[i] items
+     * (to the end of the list if next[i] is null).
+     */
+    private static final class Index<T extends Comparable<T>> {
+
+        private final ListItem<T> item;
+
+        private final Index<T>[] next;
+
+        private final int[] span;
+
+        private Index(ListItem<T> item, int level) {
+            this.item = item;
+            this.next = newIndexArray(level);
+            this.span = new int[level];
+        }
+    }
+
+    /**
+     * SearchPath: result of a search, the rank of the item found (number of items up to and including it);
+     * a recording path also keeps the last index node visited on each level and its rank (0 for head).
+     */
+    private static final class SearchPath<T extends Comparable<T>> {
+
+        private final Index<T>[] update;
+
+        private final int[] updateRank;
+
+        private int rank;
+
+        private SearchPath(boolean recording) {
+            this.update = recording ? newIndexArray(MAX_LEVEL) : null;
+            this.updateRank = recording ? new int[MAX_LEVEL] : null;
+        }
+
+        private void record(int level, Index<T> index, int rank) {
+            if (update != null) {
+                update[level] = index;
+                updateRank[level] = rank;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Comparable<T>> Index<T>[] newIndexArray(int length) {
+        return (Index<T>[]) new Index<?>[length];
+    }
+}
@@ -0,0 +1,396 @@
+package com.examples.datastructure.linkedlist;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Unrolled linked list: every node (chunk) stores a small array of elements,
+ * so there is one node header and one pair of links per chunk instead of per element,
+ * and traversal reads consecutive array slots.
+ * <p>
+ * Operations (same semantics as LinkedList):
+ * <p>
+ * add
+ * addFirst
+ * addLast
+ * clear
+ * contains
+ * get
+ * getFirst
+ * getLast
+ * indexOf
+ * isEmpty
+ * lastIndexOf
+ * remove
+ * removeFirst
+ * removeFirstOccurrence
+ * removeLast
+ * removeLastOccurrence
+ * size
+ * iterator
+ * <p>
+ * Bonus operations:
+ * reverse
+ * moveLastToFront
+ * <p>
+ * Null elements are permitted, the searches compare with Objects.equals.
+ *
+ * @author Matyas Ember
+ */
+public class UnrolledLinkedList<T extends Comparable<T>> implements Iterable<T> {
+
+    public static final int DEFAULT_CHUNK_CAPACITY = 32;
+
+    private final int chunkCapacity;
+
+    private Chunk<T> header = null;
+
+    private Chunk<T> tail = null;
+
+    private int size = 0;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    public UnrolledLinkedList(int chunkCapacity) {
+        if (chunkCapacity < 2) {
+            throw new IllegalArgumentException("Chunk capacity must be at least 2: " + chunkCapacity);
+        }
+
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    public boolean add(T value) {
+        if (tail == null || tail.count == chunkCapacity) {
+            linkLast(new Chunk<>(chunkCapacity));
+        }
+
+        tail.items[tail.count++] = value;
+        size++;
+
+        return true;
+    }
+
+    public void addFirst(T value) {
+        if (header == null || header.count == chunkCapacity) {
+            linkFirst(new Chunk<>(chunkCapacity));
+        }
+
+        System.arraycopy(header.items, 0, header.items, 1, header.count);
+        header.items[0] = value;
+        header.count++;
+        size++;
+    }
+
+    public void addLast(T value) {
+        add(value);
+    }
+
+    public void clear() {
+        header = null;
+        tail = null;
+        size = 0;
+    }
+
+    public boolean contains(T value) {
+        return indexOf(value) >= 0;
+    }
+
+    public T get(int index) {
+        checkIndex(index);
+
+        if (index < size / 2) {
+            Chunk<T> act = header;
+
+            while (index >= act.count) {
+                index -= act.count;
+                act = act.next;
+            }
+
+            return act.get(index);
+        }
+
+        int fromEnd = size - 1 - index;
+        Chunk<T> act = tail;
+
+        while (fromEnd >= act.count) {
+            fromEnd -= act.count;
+            act = act.prev;
+        }
+
+        return act.get(act.count - 1 - fromEnd);
+    }
+
+    public T getFirst() {
+        return header != null ? header.get(0) : null;
+    }
+
+    public T getLast() {
+        return tail != null ? tail.get(tail.count - 1) : null;
+    }
+
+    public int indexOf(T value) {
+        int offset = 0;
+
+        for (Chunk<T> act = header; act != null; act = act.next) {
+            for (int i = 0; i < act.count; i++) {
+                if (Objects.equals(act.items[i], value)) {
+                    return offset + i;
+                }
+            }
+
+            offset += act.count;
+        }
+
+        return -1;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int lastIndexOf(T value) {
+        int offset = size;
+
+        for (Chunk<T> act = tail; act != null; act = act.prev) {
+            offset -= act.count;
+
+            for (int i = act.count - 1; i >= 0; i--) {
+                if (Objects.equals(act.items[i], value)) {
+                    return offset + i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    public T remove(int index) {
+        checkIndex(index);
+
+        Chunk<T> act = header;
+
+        while (index >= act.count) {
+            index -= act.count;
+            act = act.next;
+        }
+
+        return removeAt(act, index);
+    }
+
+    public void removeFirst() {
+        if (header != null) {
+            removeAt(header, 0);
+        }
+    }
+
+    public boolean removeFirstOccurrence(T value) {
+        for (Chunk<T> act = header; act != null; act = act.next) {
+            for (int i = 0; i < act.count; i++) {
+                if (Objects.equals(act.items[i], value)) {
+                    removeAt(act, i);
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    public void removeLast() {
+        if (tail != null) {
+            removeAt(tail, tail.count - 1);
+        }
+    }
+
+    public boolean removeLastOccurrence(T value) {
+        for (Chunk<T> act = tail; act != null; act = act.prev) {
+            for (int i = act.count - 1; i >= 0; i--) {
+                if (Objects.equals(act.items[i], value)) {
+                    removeAt(act, i);
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void moveLastToFront() {
+        if (size < 2) {
+            return;
+        }
+
+        T last = getLast();
+        removeLast();
+        addFirst(last);
+    }
+
+    public void reverse() {
+        Chunk<T> act = header;
+
+        while (act != null) {
+            act.reverse();
+
+            Chunk<T> next = act.next;
+            act.next = act.prev;
+            act.prev = next;
+            act = next;
+        }
+
+        act = header;
+        header = tail;
+        tail = act;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            private Chunk<T> chunk = header;
+
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return chunk != null && index < chunk.count;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                T value = chunk.get(index++);
+
+                if (index == chunk.count) {
+                    chunk = chunk.next;
+                    index = 0;
+                }
+
+                return value;
+            }
+        };
+    }
+
+    public void print() {
+        System.out.println();
+
+        for (T value : this) {
+            System.out.print(value + " ");
+        }
+    }
+
+    /**
+     * Removes the element from the chunk, an emptied chunk is linked out,
+     * a less than half full chunk is merged with its successor when they fit in one chunk.
+     */
+    private T removeAt(Chunk<T> chunk, int index) {
+        T value = chunk.get(index);
+
+        chunk.count--;
+        System.arraycopy(chunk.items, index + 1, chunk.items, index, chunk.count - index);
+        chunk.items[chunk.count] = null;
+        size--;
+
+        if (chunk.count == 0) {
+            linkOut(chunk);
+        } else if (chunk.count < chunkCapacity / 2 && chunk.next != null
+                && chunk.count + chunk.next.count <= chunkCapacity) {
+            Chunk<T> next = chunk.next;
+            System.arraycopy(next.items, 0, chunk.items, chunk.count, next.count);
+            chunk.count += next.count;
+            linkOut(next);
+        }
+
+        return value;
+    }
+
+    private void linkFirst(Chunk<T> chunk) {
+        chunk.next = header;
+
+        if (header != null) {
+            header.prev = chunk;
+        } else {
+            tail = chunk;
+        }
+
+        header = chunk;
+    }
+
+    private void linkLast(Chunk<T> chunk) {
+        chunk.prev = tail;
+
+        if (tail != null) {
+            tail.next = chunk;
+        } else {
+            header = chunk;
+        }
+
+        tail = chunk;
+    }
+
+    private void linkOut(Chunk<T> chunk) {
+        Chunk<T> prev = chunk.prev;
+        Chunk<T> next = chunk.next;
+
+        if (prev != null) {
+            prev.next = next;
+        } else {
+            header = next;
+        }
+
+        if (next != null) {
+            next.prev = prev;
+        } else {
+            tail = prev;
+        }
+
+        chunk.prev = null;
+        chunk.next = null;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    /**
+     * Chunk: list node holding up to capacity elements in items[0..count).
+     */
+    private static final class Chunk<T> {
+
+        private final Object[] items;
+
+        private int count;
+
+        private Chunk<T> next;
+
+        private Chunk<T> prev;
+
+        private Chunk(int capacity) {
+            items = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        private T get(int index) {
+            return (T) items[index];
+        }
+
+        private void reverse() {
+            for (int i = 0, j = count - 1; i < j; i++, j--) {
+                Object item = items[i];
+                items[i] = items[j];
+                items[j] = item;
+            }
+        }
+    }
+}
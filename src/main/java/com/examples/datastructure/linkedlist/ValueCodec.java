@@ -0,0 +1,79 @@
+package com.examples.datastructure.linkedlist;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary encoding of list values for LinkedListSnapshot.
+ * <p>
+ * encode writes one value at the position of the buffer and throws BufferOverflowException
+ * when it does not fit (the caller makes room and retries), decode reads one value
+ * and throws BufferUnderflowException when the buffer ends inside it,
+ * IllegalArgumentException when the bytes can not be a value (e.g. a negative length).
+ * <p>
+ * Codecs: INTEGER, LONG (fixed size, big-endian) and STRING (int length + UTF-8 bytes).
+ *
+ * @author Matyas Ember
+ */
+public interface ValueCodec<T> {
+
+    ValueCodec<Integer> INTEGER = new ValueCodec<Integer>() {
+
+        @Override
+        public void encode(Integer value, ByteBuffer buffer) {
+            buffer.putInt(value);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer) {
+            return buffer.getInt();
+        }
+    };
+
+    ValueCodec<Long> LONG = new ValueCodec<Long>() {
+
+        @Override
+        public void encode(Long value, ByteBuffer buffer) {
+            buffer.putLong(value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer) {
+            return buffer.getLong();
+        }
+    };
+
+    ValueCodec<String> STRING = new ValueCodec<String>() {
+
+        @Override
+        public void encode(String value, ByteBuffer buffer) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer) {
+            int length = buffer.getInt();
+
+            if (length < 0) {
+                throw new IllegalArgumentException("Negative string length: " + length);
+            }
+
+            if (length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    void encode(T value, ByteBuffer buffer);
+
+    T decode(ByteBuffer buffer);
+}
@@ -0,0 +1,449 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+/**
+ * Tests shared by the list implementations with the LinkedList operations,
+ * a subclass only supplies the tested list through a TestedList adapter.
+ *
+ * @author Matyas Ember
+ */
+public abstract class AbstractLinkedListTest {
+
+    /**
+     * TestedList: the operations the shared tests call, over Integer elements.
+     */
+    interface TestedList {
+
+        boolean add(Integer value);
+
+        void addFirst(Integer value);
+
+        void clear();
+
+        boolean contains(Integer value);
+
+        Integer get(int index);
+
+        Integer getFirst();
+
+        Integer getLast();
+
+        int indexOf(Integer value);
+
+        boolean isEmpty();
+
+        int lastIndexOf(Integer value);
+
+        void moveLastToFront();
+
+        Integer remove(int index);
+
+        void removeFirst();
+
+        boolean removeFirstOccurrence(Integer value);
+
+        void removeLast();
+
+        boolean removeLastOccurrence(Integer value);
+
+        void reverse();
+
+        int size();
+    }
+
+    private TestedList list;
+
+    /**
+     * A new, empty list of the tested implementation.
+     */
+    abstract TestedList createList();
+
+    @Before
+    public void initList() {
+        list = createList();
+    }
+
+    @Test
+    public void testAdd() {
+        list.add(1);
+
+        Assert.assertEquals(1, list.size());
+        Assert.assertEquals(1, (int) list.get(0));
+
+
+        list.add(2);
+
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals(1, (int) list.get(0));
+        Assert.assertEquals(2, (int) list.get(1));
+    }
+
+    @Test
+    public void testAddFirst() {
+        list.addFirst(2);
+
+        Assert.assertEquals(1, list.size());
+        Assert.assertEquals(2, (int) list.get(0));
+
+
+        list.addFirst(1);
+
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals(1, (int) list.get(0));
+        Assert.assertEquals(2, (int) list.get(1));
+    }
+
+    @Test
+    public void testSize() {
+        list.add(1);
+
+        Assert.assertEquals(1, list.size());
+
+
+        list.add(2);
+
+        Assert.assertEquals(2, list.size());
+
+        IntStream.rangeClosed(3, 4).forEach(list::add);
+
+        Assert.assertEquals(4, list.size());
+    }
+
+    @Test
+    public void testClear() {
+        IntStream.rangeClosed(1, 4).forEach(list::add);
+
+        Assert.assertEquals(4, list.size());
+
+
+        list.clear();
+
+        Assert.assertEquals(0, list.size());
+    }
+
+    @Test
+    public void testContains() {
+        IntStream.rangeClosed(1, 4).forEach(list::add);
+
+        Assert.assertTrue(list.contains(1));
+        Assert.assertTrue(list.contains(2));
+        Assert.assertTrue(list.contains(3));
+        Assert.assertTrue(list.contains(4));
+        Assert.assertFalse(list.contains(-1));
+        Assert.assertFalse(list.contains(5));
+    }
+
+    @Test
+    public void testGet() {
+        IntStream.rangeClosed(1, 4).forEach(list::add);
+
+        Assert.assertEquals(1, (int) list.get(0));
+        Assert.assertEquals(2, (int) list.get(1));
+        Assert.assertEquals(3, (int) list.get(2));
+        Assert.assertEquals(4, (int) list.get(3));
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetExceptionLessThanZeroIndex() {
+        IntStream.rangeClosed(1, 4).forEach(list::add);
+
+        list.get(-1);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetExceptionGreaterThanMaxIndex() {
+        IntStream.rangeClosed(1, 4).forEach(list::add);
+
+        list.get(5);
+    }
+
+    @Test
+    public void testGetFirst() {
+        IntStream.rangeClosed(1, 4).forEach(list::add);
+
+        Assert.assertEquals(1, (int) list.getFirst());
+    }
+
+    @Test
+    public void testGetLast() {
+        IntStream.rangeClosed(1, 4).forEach(list::add);
+
+        Assert.assertEquals(4, (int) list.getLast());
+    }
+
+    @Test
+    public void testIndexOf() {
+        IntStream.rangeClosed(1, 4).forEach(list::add);
+        list.add(4);
+        list.add(2);
+
+        Assert.assertEquals(0, list.indexOf(1));
+        Assert.assertEquals(1, list.indexOf(2));
+        Assert.assertEquals(2, list.indexOf(3));
+        Assert.assertEquals(3, list.indexOf(4));
+        Assert.assertEquals(-1, list.indexOf(5));
+    }
+
+    @Test
+    public void testLastIndexOf() {
+        IntStream.rangeClosed(1, 4).forEach(list::add);
+        list.add(4);
+        list.add(2);
+
+        Assert.assertEquals(5, list.lastIndexOf(2));
+        Assert.assertEquals(4, list.lastIndexOf(4));
+        Assert.assertEquals(2, list.lastIndexOf(3));
+        Assert.assertEquals(0, list.lastIndexOf(1));
+        Assert.assertEquals(-1, list.lastIndexOf(5));
+    }
+
+    @Test
+    public void testIsEmpty() {
+        Assert.assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testRemove() {
+        IntStream.rangeClosed(1, 4).forEach(list::add);
+
+
+        Assert.assertEquals(1, (int) list.remove(0));
+
+        Assert.assertEquals(3, list.size());
+        Assert.assertEquals(2, (int) list.get(0));
+        Assert.assertEquals(3, (int) list.get(1));
+        Assert.assertEquals(4, (int) list.get(2));
+
+
+        Assert.assertEquals(3, (int) list.remove(1));
+
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals(2, (int) list.get(0));
+        Assert.assertEquals(4, (int) list.get(1));
+
+
+        Assert.assertEquals(4, (int) list.remove(1));
+
+        Assert.assertEquals(1, list.size());
+
+
+        Assert.assertEquals(2, (int) list.remove(0));
+
+        Assert.assertEquals(0, list.size());
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testRemoveExceptionLessThanZeroIndex() {
+        IntStream.rangeClosed(1, 4).forEach(list::add);
+
+        list.remove(-1);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testRemoveExceptionGreaterThanMaxIndex() {
+        IntStream.rangeClosed(1, 4).forEach(list::add);
+
+        list.remove(-5);
+    }
+
+    @Test
+    public void testRemoveFirst() {
+        IntStream.rangeClosed(1, 2).forEach(list::add);
+
+
+        list.removeFirst();
+
+        Assert.assertEquals(1, list.size());
+        Assert.assertEquals(2, (int) list.get(0));
+
+
+        list.removeFirst();
+
+        Assert.assertEquals(0, list.size());
+
+
+        list.removeFirst();
+    }
+
+    @Test
+    public void testRemoveLast() {
+        IntStream.rangeClosed(1, 2).forEach(list::add);
+
+
+        list.removeLast();
+
+        Assert.assertEquals(1, list.size());
+        Assert.assertEquals(1, (int) list.get(0));
+
+
+        list.removeLast();
+
+        Assert.assertEquals(0, list.size());
+
+
+        list.removeLast();
+    }
+
+    @Test
+    public void testRemoveFirstOccurrence() {
+        IntStream.rangeClosed(1, 2).forEach(list::add);
+        IntStream.rangeClosed(2, 3).forEach(list::add);
+        list.add(2);
+
+
+        boolean resultIsContained = list.removeFirstOccurrence(2);
+
+        Assert.assertTrue(resultIsContained);
+        Assert.assertEquals(4, list.size());
+        Assert.assertEquals(1, (int) list.get(0));
+        Assert.assertEquals(2, (int) list.get(1));
+        Assert.assertEquals(3, (int) list.get(2));
+        Assert.assertEquals(2, (int) list.get(3));
+
+
+        list.removeFirstOccurrence(2);
+
+        Assert.assertEquals(3, list.size());
+        Assert.assertEquals(1, (int) list.get(0));
+        Assert.assertEquals(3, (int) list.get(1));
+        Assert.assertEquals(2, (int) list.get(2));
+
+
+        list.removeFirstOccurrence(2);
+
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals(1, (int) list.get(0));
+        Assert.assertEquals(3, (int) list.get(1));
+
+
+        boolean resultIsNotContained = list.removeFirstOccurrence(2);
+
+        Assert.assertFalse(resultIsNotContained);
+    }
+
+    @Test
+    public void testRemoveLastOccurrence() {
+        IntStream.rangeClosed(1, 2).forEach(list::add);
+        IntStream.rangeClosed(2, 3).forEach(list::add);
+        list.add(2);
+
+
+        boolean resultIsContained = list.removeLastOccurrence(2);
+
+        Assert.assertTrue(resultIsContained);
+        Assert.assertEquals(4, list.size());
+        Assert.assertEquals(1, (int) list.get(0));
+        Assert.assertEquals(2, (int) list.get(1));
+        Assert.assertEquals(2, (int) list.get(2));
+        Assert.assertEquals(3, (int) list.get(3));
+
+
+        list.removeLastOccurrence(2);
+
+        Assert.assertEquals(3, list.size());
+        Assert.assertEquals(1, (int) list.get(0));
+        Assert.assertEquals(2, (int) list.get(1));
+        Assert.assertEquals(3, (int) list.get(2));
+
+
+        list.removeLastOccurrence(2);
+
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals(1, (int) list.get(0));
+        Assert.assertEquals(3, (int) list.get(1));
+
+
+        boolean resultIsNotContained = list.removeLastOccurrence(2);
+
+        Assert.assertFalse(resultIsNotContained);
+    }
+
+    @Test
+    public void testReverseEvenElementNum() {
+        IntStream.rangeClosed(1, 4).forEach(list::add);
+
+        list.reverse();
+
+        Assert.assertEquals(4, list.size());
+        Assert.assertEquals(4, (int) list.get(0));
+        Assert.assertEquals(3, (int) list.get(1));
+        Assert.assertEquals(2, (int) list.get(2));
+        Assert.assertEquals(1, (int) list.get(3));
+    }
+
+    @Test
+    public void testReverseOddElementNum() {
+        IntStream.rangeClosed(1, 3).forEach(list::add);
+
+        list.reverse();
+
+        Assert.assertEquals(3, list.size());
+        Assert.assertEquals(3, (int) list.get(0));
+        Assert.assertEquals(2, (int) list.get(1));
+        Assert.assertEquals(1, (int) list.get(2));
+    }
+
+    @Test
+    public void testReverseOneElement() {
+        list.add(1);
+
+        list.reverse();
+
+        Assert.assertEquals(1, list.size());
+        Assert.assertEquals(1, (int) list.get(0));
+    }
+
+    @Test
+    public void testReverseEmpty() {
+        list.reverse();
+
+        Assert.assertEquals(0, list.size());
+    }
+
+    @Test
+    public void moveLastToFrontEvenElementNum() {
+        IntStream.rangeClosed(1, 4).forEach(list::add);
+
+        list.moveLastToFront();
+
+        Assert.assertEquals(4, list.size());
+        Assert.assertEquals(4, (int) list.get(0));
+        Assert.assertEquals(1, (int) list.get(1));
+        Assert.assertEquals(2, (int) list.get(2));
+        Assert.assertEquals(3, (int) list.get(3));
+    }
+
+    @Test
+    public void moveLastToFrontOddElementNum() {
+        IntStream.rangeClosed(1, 3).forEach(list::add);
+
+        list.moveLastToFront();
+
+        Assert.assertEquals(3, list.size());
+        Assert.assertEquals(3, (int) list.get(0));
+        Assert.assertEquals(1, (int) list.get(1));
+        Assert.assertEquals(2, (int) list.get(2));
+    }
+
+    @Test
+    public void moveLastToFrontOneElement() {
+        list.add(1);
+
+        list.moveLastToFront();
+
+        Assert.assertEquals(1, list.size());
+        Assert.assertEquals(1, (int) list.get(0));
+    }
+
+    @Test
+    public void moveLastToFrontEmpty() {
+        list.moveLastToFront();
+
+        Assert.assertEquals(0, list.size());
+    }
+}
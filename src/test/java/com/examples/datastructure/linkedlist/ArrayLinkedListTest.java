@@ -0,0 +1,189 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+/**
+ * Test class.
+ *
+ * @author Matyas Ember
+ */
+public class ArrayLinkedListTest extends AbstractLinkedListTest {
+
+    private ArrayLinkedList<Integer> linkedList;
+
+    @Before
+    public void init() {
+        linkedList = new ArrayLinkedList<>();
+    }
+
+    @Override
+    TestedList createList() {
+        return new Adapter();
+    }
+
+    @Test
+    public void testReuseRemovedSlots() {
+        IntStream.rangeClosed(1, 20).forEach(linkedList::add);
+        IntStream.rangeClosed(1, 10).forEach(value -> linkedList.removeFirstOccurrence(value));
+
+        IntStream.rangeClosed(21, 25).forEach(linkedList::addFirst);
+
+        Assert.assertEquals(15, linkedList.size());
+        Assert.assertEquals(25, (int) linkedList.getFirst());
+        Assert.assertEquals(11, (int) linkedList.get(5));
+        Assert.assertEquals(20, (int) linkedList.getLast());
+    }
+
+    @Test
+    public void testClearAndReuse() {
+        IntStream.rangeClosed(1, 20).forEach(linkedList::add);
+
+        linkedList.clear();
+
+        Assert.assertTrue(linkedList.isEmpty());
+        Assert.assertNull(linkedList.getFirst());
+        Assert.assertFalse(linkedList.iterator().hasNext());
+
+
+        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
+
+        Assert.assertEquals(3, linkedList.size());
+        Assert.assertEquals(1, linkedList.indexOf(2));
+    }
+
+    @Test
+    public void testIterator() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+        linkedList.reverse();
+
+        int expected = 4;
+
+        for (int value : linkedList) {
+            Assert.assertEquals(expected--, value);
+        }
+
+        Assert.assertEquals(0, expected);
+    }
+
+    @Test
+    public void testNullElements() {
+        linkedList.add(1);
+        linkedList.add(null);
+        linkedList.add(2);
+        linkedList.add(null);
+
+        Assert.assertTrue(linkedList.contains(2));
+        Assert.assertTrue(linkedList.contains(null));
+        Assert.assertFalse(linkedList.contains(3));
+        Assert.assertEquals(1, linkedList.indexOf(null));
+        Assert.assertEquals(3, linkedList.lastIndexOf(null));
+        Assert.assertEquals(2, linkedList.indexOf(2));
+
+        Assert.assertTrue(linkedList.removeLastOccurrence(null));
+        Assert.assertTrue(linkedList.removeFirstOccurrence(null));
+        Assert.assertFalse(linkedList.contains(null));
+        Assert.assertEquals(2, linkedList.size());
+    }
+
+    /**
+     * Adapter: the tested list behind the shared tests.
+     */
+    private static final class Adapter implements TestedList {
+
+        private final ArrayLinkedList<Integer> list = new ArrayLinkedList<>();
+
+        @Override
+        public boolean add(Integer value) {
+            return list.add(value);
+        }
+
+        @Override
+        public void addFirst(Integer value) {
+            list.addFirst(value);
+        }
+
+        @Override
+        public void clear() {
+            list.clear();
+        }
+
+        @Override
+        public boolean contains(Integer value) {
+            return list.contains(value);
+        }
+
+        @Override
+        public Integer get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public Integer getFirst() {
+            return list.getFirst();
+        }
+
+        @Override
+        public Integer getLast() {
+            return list.getLast();
+        }
+
+        @Override
+        public int indexOf(Integer value) {
+            return list.indexOf(value);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return list.isEmpty();
+        }
+
+        @Override
+        public int lastIndexOf(Integer value) {
+            return list.lastIndexOf(value);
+        }
+
+        @Override
+        public void moveLastToFront() {
+            list.moveLastToFront();
+        }
+
+        @Override
+        public Integer remove(int index) {
+            return list.remove(index);
+        }
+
+        @Override
+        public void removeFirst() {
+            list.removeFirst();
+        }
+
+        @Override
+        public boolean removeFirstOccurrence(Integer value) {
+            return list.removeFirstOccurrence(value);
+        }
+
+        @Override
+        public void removeLast() {
+            list.removeLast();
+        }
+
+        @Override
+        public boolean removeLastOccurrence(Integer value) {
+            return list.removeLastOccurrence(value);
+        }
+
+        @Override
+        public void reverse() {
+            list.reverse();
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Test class.
+ *
+ * @author Matyas Ember
+ */
+public class BoundedLinkedQueueTest {
+
+    private static final int CAPACITY = 4;
+
+    private static final int PRODUCERS = 4;
+
+    private static final int CONSUMERS = 3;
+
+    private static final int VALUES_PER_PRODUCER = 5000;
+
+    private BoundedLinkedQueue<Integer> queue;
+
+    @Before
+    public void init() {
+        queue = new BoundedLinkedQueue<>(CAPACITY);
+    }
+
+    @Test
+    public void testFifoOrder() throws InterruptedException {
+        IntStream.range(0, CAPACITY).forEach(queue::offer);
+
+        Assert.assertFalse(queue.offer(CAPACITY));
+        Assert.assertEquals(CAPACITY, queue.size());
+        Assert.assertEquals(0, queue.remainingCapacity());
+        Assert.assertEquals(0, (int) queue.peek());
+
+        for (int i = 0; i < CAPACITY; i++) {
+            Assert.assertEquals(i, (int) queue.take());
+        }
+
+        Assert.assertNull(queue.poll());
+        Assert.assertNull(queue.peek());
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testTimeouts() throws InterruptedException {
+        Assert.assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+
+        IntStream.range(0, CAPACITY).forEach(queue::offer);
+
+        Assert.assertFalse(queue.offer(CAPACITY, 10, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(0, (int) queue.poll(10, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(queue.offer(CAPACITY, 10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testPutWaitsForTake() throws Exception {
+        IntStream.range(0, CAPACITY).forEach(queue::offer);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<?> put = executor.submit(() -> {
+                queue.put(CAPACITY);
+                return null;
+            });
+
+            Thread.sleep(50);
+            Assert.assertFalse(put.isDone());
+
+            Assert.assertEquals(0, (int) queue.take());
+            put.get(5, TimeUnit.SECONDS);
+
+            Assert.assertEquals(Arrays.asList(1, 2, 3, 4), new ArrayList<>(queue));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDrainTo() {
+        queue = new BoundedLinkedQueue<>(100);
+        IntStream.range(0, 10).forEach(queue::offer);
+
+        List<Integer> drained = new ArrayList<>();
+
+        Assert.assertEquals(0, queue.drainTo(drained, 0));
+        Assert.assertEquals(4, queue.drainTo(drained, 4));
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3), drained);
+        Assert.assertEquals(6, queue.size());
+
+        queue.offer(10);
+
+        Assert.assertEquals(7, queue.drainTo(drained));
+        Assert.assertEquals(11, drained.size());
+        Assert.assertEquals(10, (int) drained.get(10));
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertEquals(0, queue.drainTo(drained));
+
+        queue.offer(11);
+
+        Assert.assertEquals(11, (int) queue.poll());
+    }
+
+    @Test
+    public void testRemoveAndIterator() {
+        IntStream.range(0, CAPACITY).forEach(queue::offer);
+
+        Assert.assertTrue(queue.contains(3));
+        Assert.assertTrue(queue.remove(3));
+        Assert.assertFalse(queue.remove(3));
+        Assert.assertTrue(queue.offer(5));
+
+        Iterator<Integer> iterator = queue.iterator();
+        iterator.next();
+        iterator.remove();
+
+        Assert.assertEquals(Arrays.asList(1, 2, 5), new ArrayList<>(queue));
+
+        queue.clear();
+
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertTrue(queue.offer(6));
+        Assert.assertEquals(6, (int) queue.peek());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullValue() {
+        queue.offer(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new BoundedLinkedQueue<Integer>(0);
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+        List<Future<Long>> consumers = new ArrayList<>();
+
+        try {
+            for (int p = 0; p < PRODUCERS; p++) {
+                executor.submit(() -> {
+                    for (int i = 1; i <= VALUES_PER_PRODUCER; i++) {
+                        queue.put(i);
+                    }
+
+                    return null;
+                });
+            }
+
+            for (int c = 0; c < CONSUMERS; c++) {
+                boolean draining = c == 0;
+
+                consumers.add(executor.submit(() -> {
+                    long sum = 0;
+                    List<Integer> batch = new ArrayList<>();
+
+                    while (true) {
+                        Integer value = queue.poll(200, TimeUnit.MILLISECONDS);
+
+                        if (value == null) {
+                            return sum;
+                        }
+
+                        sum += value;
+
+                        if (draining) {
+                            batch.clear();
+                            queue.drainTo(batch, 3);
+
+                            for (int drained : batch) {
+                                sum += drained;
+                            }
+                        }
+                    }
+                }));
+            }
+
+            long sum = 0;
+
+            for (Future<Long> consumer : consumers) {
+                sum += consumer.get(30, TimeUnit.SECONDS);
+            }
+
+            Assert.assertEquals((long) PRODUCERS * VALUES_PER_PRODUCER * (VALUES_PER_PRODUCER + 1) / 2, sum);
+            Assert.assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
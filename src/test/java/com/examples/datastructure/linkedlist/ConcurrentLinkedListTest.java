@@ -0,0 +1,191 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Test class.
+ *
+ * @author Matyas Ember
+ */
+public class ConcurrentLinkedListTest {
+
+    private static final int THREADS = 8;
+
+    private static final int VALUES_PER_THREAD = 5_000;
+
+    private ConcurrentLinkedList<Integer> linkedList;
+
+    @Before
+    public void init() {
+        linkedList = new ConcurrentLinkedList<>();
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+        linkedList.addFirst(0);
+
+        Assert.assertEquals(5, linkedList.size());
+        Assert.assertTrue(linkedList.contains(3));
+        Assert.assertEquals(0, (int) linkedList.removeFirst());
+        Assert.assertEquals(4, (int) linkedList.removeLast());
+        Assert.assertTrue(linkedList.removeFirstOccurrence(2));
+        Assert.assertFalse(linkedList.removeFirstOccurrence(2));
+        Assert.assertFalse(linkedList.contains(2));
+        Assert.assertEquals(2, linkedList.size());
+
+        linkedList.add(5);
+
+        Assert.assertEquals(1, (int) linkedList.removeFirst());
+        Assert.assertEquals(5, (int) linkedList.removeLast());
+        Assert.assertEquals(3, (int) linkedList.removeLast());
+        Assert.assertNull(linkedList.removeLast());
+        Assert.assertNull(linkedList.removeFirst());
+        Assert.assertTrue(linkedList.isEmpty());
+    }
+
+    @Test
+    public void testAddAfterRemovingTail() {
+        linkedList.add(1);
+        linkedList.add(2);
+        linkedList.removeLast();
+        linkedList.add(3);
+        linkedList.removeFirstOccurrence(3);
+        linkedList.add(4);
+
+        Assert.assertEquals(1, (int) linkedList.removeFirst());
+        Assert.assertEquals(4, (int) linkedList.removeFirst());
+        Assert.assertTrue(linkedList.isEmpty());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAddExceptionNull() {
+        linkedList.add(null);
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Integer>>> results = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+
+            results.add(executor.submit(() -> {
+                List<Integer> removed = new ArrayList<>();
+                start.await();
+
+                for (int i = 0; i < VALUES_PER_THREAD; i++) {
+                    int value = thread * VALUES_PER_THREAD + i;
+
+                    if (i % 2 == 0) {
+                        linkedList.add(value);
+                    } else {
+                        linkedList.addFirst(value);
+                    }
+
+                    Integer taken;
+
+                    switch (i % 4) {
+                        case 0:
+                            taken = linkedList.removeFirst();
+                            break;
+                        case 1:
+                            taken = linkedList.removeFirstOccurrence(value) ? value : null;
+                            break;
+                        case 2:
+                            taken = i % 200 == 2 ? linkedList.removeLast() : null;
+                            break;
+                        default:
+                            taken = null;
+                    }
+
+                    if (taken != null) {
+                        removed.add(taken);
+                    }
+                }
+
+                return removed;
+            }));
+        }
+
+        start.countDown();
+
+        Set<Integer> seen = new HashSet<>();
+
+        for (Future<List<Integer>> result : results) {
+            for (Integer value : result.get(60, TimeUnit.SECONDS)) {
+                Assert.assertTrue("removed twice: " + value, seen.add(value));
+            }
+        }
+
+        executor.shutdown();
+
+        Integer value;
+
+        while ((value = linkedList.removeFirst()) != null) {
+            Assert.assertTrue("removed twice: " + value, seen.add(value));
+        }
+
+        Assert.assertEquals(THREADS * VALUES_PER_THREAD, seen.size());
+        Assert.assertEquals(0, linkedList.size());
+    }
+
+    @Test
+    public void testRemoveFirstIsLifoAgainstAddFirst() throws Exception {
+        int count = 200_000;
+        AtomicInteger added = new AtomicInteger();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<?> producer = executor.submit(() -> {
+                for (int i = 0; i < count; i++) {
+                    linkedList.addFirst(i);
+                    added.set(i + 1);
+                }
+            });
+
+            BitSet removed = new BitSet(count);
+            int removedCount = 0;
+
+            while (removedCount < count) {
+                // every value added before the call and not removed yet is in the list during the whole call,
+                // the largest of them is in front of the others, so removeFirst may not return anything smaller
+                int newest = removed.previousClearBit(added.get() - 1);
+                Integer value = linkedList.removeFirst();
+
+                if (value == null) {
+                    Assert.assertEquals(-1, newest);
+                    continue;
+                }
+
+                Assert.assertTrue("removed " + value + " while " + newest + " was in front", value >= newest);
+                Assert.assertFalse("removed twice: " + value, removed.get(value));
+
+                removed.set(value);
+                removedCount++;
+            }
+
+            producer.get(60, TimeUnit.SECONDS);
+            Assert.assertTrue(linkedList.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
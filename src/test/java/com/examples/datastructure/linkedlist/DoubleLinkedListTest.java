@@ -0,0 +1,54 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test class.
+ *
+ * @author Matyas Ember
+ */
+public class DoubleLinkedListTest {
+
+    private DoubleLinkedList linkedList;
+
+    @Before
+    public void init() {
+        linkedList = new DoubleLinkedList();
+    }
+
+    @Test
+    public void testAddAndGet() {
+        linkedList.add(1.5);
+        linkedList.add(2.5);
+        linkedList.addFirst(0.5);
+
+        Assert.assertEquals(3, linkedList.size());
+        Assert.assertEquals(0.5, linkedList.get(0), 0.0);
+        Assert.assertEquals(2.5, linkedList.getLast(), 0.0);
+    }
+
+    @Test
+    public void testIndexOfLikeDoubleEquals() {
+        linkedList.add(0.0);
+        linkedList.add(Double.NaN);
+        linkedList.add(-0.0);
+
+        Assert.assertEquals(1, linkedList.indexOf(Double.NaN));
+        Assert.assertEquals(0, linkedList.lastIndexOf(0.0));
+        Assert.assertEquals(2, linkedList.indexOf(-0.0));
+    }
+
+    @Test
+    public void testRemoveAndReverse() {
+        linkedList.add(1.0);
+        linkedList.add(2.0);
+        linkedList.add(3.0);
+
+        Assert.assertTrue(linkedList.removeLastOccurrence(2.0));
+        linkedList.reverse();
+
+        Assert.assertArrayEquals(new double[]{3.0, 1.0}, linkedList.toArray(), 0.0);
+    }
+}
@@ -0,0 +1,203 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Test class.
+ *
+ * @author Matyas Ember
+ */
+public class IntLinkedListTest {
+
+    private IntLinkedList linkedList;
+
+    @Before
+    public void init() {
+        linkedList = new IntLinkedList(2);
+    }
+
+    @Test
+    public void testAdd() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+
+        Assert.assertEquals(4, linkedList.size());
+        Assert.assertArrayEquals(new int[]{1, 2, 3, 4}, linkedList.toArray());
+    }
+
+    @Test
+    public void testAddFirst() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::addFirst);
+
+        Assert.assertArrayEquals(new int[]{4, 3, 2, 1}, linkedList.toArray());
+        Assert.assertEquals(4, linkedList.getFirst());
+        Assert.assertEquals(1, linkedList.getLast());
+    }
+
+    @Test
+    public void testGet() {
+        IntStream.range(0, 10).forEach(linkedList::add);
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(i, linkedList.get(i));
+        }
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetExceptionGreaterThanMaxIndex() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+
+        linkedList.get(4);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testGetFirstExceptionEmpty() {
+        linkedList.getFirst();
+    }
+
+    @Test
+    public void testIndexOf() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+        linkedList.add(2);
+
+        Assert.assertEquals(1, linkedList.indexOf(2));
+        Assert.assertEquals(4, linkedList.lastIndexOf(2));
+        Assert.assertEquals(-1, linkedList.indexOf(5));
+        Assert.assertEquals(-1, linkedList.lastIndexOf(5));
+        Assert.assertTrue(linkedList.contains(3));
+        Assert.assertFalse(linkedList.contains(0));
+    }
+
+    @Test
+    public void testRemove() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+
+        Assert.assertEquals(1, linkedList.remove(0));
+        Assert.assertEquals(3, linkedList.remove(1));
+        Assert.assertArrayEquals(new int[]{2, 4}, linkedList.toArray());
+    }
+
+    @Test
+    public void testRemoveOccurrence() {
+        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
+        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
+
+        Assert.assertTrue(linkedList.removeFirstOccurrence(2));
+        Assert.assertTrue(linkedList.removeLastOccurrence(1));
+        Assert.assertFalse(linkedList.removeLastOccurrence(7));
+        Assert.assertArrayEquals(new int[]{1, 3, 2, 3}, linkedList.toArray());
+    }
+
+    @Test
+    public void testRemoveFirstAndLast() {
+        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
+
+        linkedList.removeFirst();
+        linkedList.removeLast();
+
+        Assert.assertArrayEquals(new int[]{2}, linkedList.toArray());
+
+
+        linkedList.removeLast();
+        linkedList.removeFirst();
+
+        Assert.assertTrue(linkedList.isEmpty());
+    }
+
+    @Test
+    public void testReverseAndReuseSlots() {
+        IntStream.rangeClosed(1, 5).forEach(linkedList::add);
+        linkedList.removeFirstOccurrence(2);
+        linkedList.removeFirstOccurrence(4);
+
+        linkedList.reverse();
+
+        Assert.assertArrayEquals(new int[]{5, 3, 1}, linkedList.toArray());
+
+
+        linkedList.add(6);
+        linkedList.addFirst(7);
+        linkedList.add(8);
+
+        Assert.assertArrayEquals(new int[]{7, 5, 3, 1, 6, 8}, linkedList.toArray());
+        Assert.assertEquals(3, linkedList.lastIndexOf(1));
+    }
+
+    @Test
+    public void testMoveLastToFront() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+
+        linkedList.moveLastToFront();
+
+        Assert.assertArrayEquals(new int[]{4, 1, 2, 3}, linkedList.toArray());
+        Assert.assertEquals(3, linkedList.getLast());
+    }
+
+    @Test
+    public void testClear() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+
+        linkedList.clear();
+
+        Assert.assertEquals(0, linkedList.size());
+
+
+        linkedList.add(5);
+
+        Assert.assertArrayEquals(new int[]{5}, linkedList.toArray());
+    }
+
+    @Test
+    public void testRandomOperationsAgainstArrayList() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 10_000; step++) {
+            int value = random.nextInt(30);
+
+            switch (random.nextInt(8)) {
+                case 0:
+                case 1:
+                    linkedList.add(value);
+                    expected.add(value);
+                    break;
+                case 2:
+                    linkedList.addFirst(value);
+                    expected.add(0, value);
+                    break;
+                case 3:
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assert.assertEquals((int) expected.remove(index), linkedList.remove(index));
+                    }
+                    break;
+                case 4:
+                    Assert.assertEquals(expected.remove((Integer) value), linkedList.removeFirstOccurrence(value));
+                    break;
+                case 5:
+                    Collections.reverse(expected);
+                    linkedList.reverse();
+                    break;
+                case 6:
+                    if (expected.size() > 1) {
+                        expected.add(0, expected.remove(expected.size() - 1));
+                    }
+                    linkedList.moveLastToFront();
+                    break;
+                default:
+                    Assert.assertEquals(expected.indexOf(value), linkedList.indexOf(value));
+                    Assert.assertEquals(expected.lastIndexOf(value), linkedList.lastIndexOf(value));
+            }
+        }
+
+        Assert.assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), linkedList.toArray());
+    }
+}
@@ -0,0 +1,40 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.stream.IntStream;
+
+/**
+ * Test class (runs with the metrics off, the default).
+ *
+ * @author Matyas Ember
+ */
+public class LinkedListMetricsDisabledTest {
+
+    @Test
+    public void testDisabledRecordsNothing() throws Exception {
+        Assert.assertFalse(LinkedListMetrics.ENABLED);
+
+        LinkedList<Integer> linkedList = new LinkedList<>();
+        IntStream.range(0, 100).forEach(linkedList::add);
+
+        linkedList.get(50);
+        linkedList.contains(99);
+        linkedList.indexOf(-1);
+        linkedList.lastIndexOf(0);
+        linkedList.removeFirstOccurrence(10);
+        linkedList.removeLastOccurrence(90);
+        linkedList.remove(0);
+
+        for (OperationMetrics metrics : LinkedListMetrics.snapshot().values()) {
+            Assert.assertEquals(0, metrics.getCalls());
+            Assert.assertEquals(0, metrics.getTraversedNodes());
+        }
+
+        Assert.assertFalse(ManagementFactory.getPlatformMBeanServer()
+                .isRegistered(new ObjectName(LinkedListMetrics.OBJECT_NAME)));
+    }
+}
@@ -0,0 +1,117 @@
+package com.examples.datastructure.linkedlist;
+
+import com.examples.datastructure.linkedlist.LinkedListMetrics.Operation;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Test class (runs when the metrics are on, as in the Maven build).
+ *
+ * @author Matyas Ember
+ */
+public class LinkedListMetricsTest {
+
+    private LinkedList<Integer> linkedList;
+
+    @Before
+    public void init() {
+        Assume.assumeTrue(LinkedListMetrics.ENABLED);
+
+        linkedList = new LinkedList<>();
+        IntStream.range(0, 100).forEach(linkedList::add);
+
+        LinkedListMetrics.reset();
+    }
+
+    @Test
+    public void testTraversedNodes() {
+        linkedList.get(50);
+        linkedList.get(51);
+        linkedList.contains(99);
+        linkedList.indexOf(-1);
+        linkedList.lastIndexOf(0);
+        linkedList.removeFirstOccurrence(10);
+        linkedList.removeLastOccurrence(90);
+        linkedList.remove(0);
+        linkedList.add(100);
+
+        Map<Operation, OperationMetrics> metrics = LinkedListMetrics.snapshot();
+
+        assertMetrics(metrics.get(Operation.GET), 2, 49 + 1);
+        assertMetrics(metrics.get(Operation.CONTAINS), 1, 99);
+        assertMetrics(metrics.get(Operation.INDEX_OF), 1, 100);
+        assertMetrics(metrics.get(Operation.LAST_INDEX_OF), 1, 99);
+        assertMetrics(metrics.get(Operation.REMOVE_FIRST_OCCURRENCE), 1, 10);
+        assertMetrics(metrics.get(Operation.REMOVE_LAST_OCCURRENCE), 1, 9);
+        assertMetrics(metrics.get(Operation.REMOVE), 1, 0);
+        assertMetrics(metrics.get(Operation.ADD), 1, 0);
+
+        Assert.assertEquals(25.0, metrics.get(Operation.GET).getMeanTraversedNodes(), 0.0);
+    }
+
+    @Test
+    public void testIndexedLookupsTraverseNothing() {
+        linkedList.setIndexed(true);
+
+        linkedList.contains(99);
+        linkedList.indexOf(-1);
+        linkedList.removeFirstOccurrence(99);
+
+        Map<Operation, OperationMetrics> metrics = LinkedListMetrics.snapshot();
+
+        assertMetrics(metrics.get(Operation.CONTAINS), 1, 0);
+        assertMetrics(metrics.get(Operation.INDEX_OF), 1, 0);
+        assertMetrics(metrics.get(Operation.REMOVE_FIRST_OCCURRENCE), 1, 0);
+    }
+
+    @Test
+    public void testLatencyHistogramAndReset() {
+        IntStream.range(0, 1000).forEach(i -> linkedList.get(i % 100));
+
+        OperationMetrics get = LinkedListMetrics.snapshot().get(Operation.GET);
+
+        Assert.assertEquals(1000, Arrays.stream(get.getLatencyHistogram()).sum());
+        Assert.assertTrue(get.getMedianLatencyNanos() > 0);
+        Assert.assertTrue(get.getP99LatencyNanos() >= get.getMedianLatencyNanos());
+        Assert.assertEquals(0, new OperationMetrics(0, 0, new long[64]).getP99LatencyNanos());
+
+
+        LinkedListMetrics.reset();
+
+        Assert.assertEquals(0, LinkedListMetrics.snapshot().get(Operation.GET).getCalls());
+    }
+
+    @Test
+    public void testMXBean() throws Exception {
+        linkedList.get(50);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        TabularData operations = (TabularData) server.getAttribute(new ObjectName(LinkedListMetrics.OBJECT_NAME),
+                "Operations");
+        CompositeData get = (CompositeData) operations.get(new Object[]{"GET"}).get("value");
+
+        Assert.assertEquals(1L, get.get("calls"));
+        Assert.assertEquals(49L, get.get("traversedNodes"));
+
+
+        server.invoke(new ObjectName(LinkedListMetrics.OBJECT_NAME), "resetCounters", null, null);
+
+        Assert.assertEquals(0, LinkedListMetrics.snapshot().get(Operation.GET).getCalls());
+    }
+
+    private static void assertMetrics(OperationMetrics metrics, long calls, long traversedNodes) {
+        Assert.assertEquals(calls, metrics.getCalls());
+        Assert.assertEquals(traversedNodes, metrics.getTraversedNodes());
+    }
+}
@@ -0,0 +1,172 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Test class.
+ *
+ * @author Matyas Ember
+ */
+public class LinkedListSnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path path;
+
+    @Before
+    public void init() throws IOException {
+        path = folder.newFile("list.bin").toPath();
+    }
+
+    @Test
+    public void testIntegers() throws IOException {
+        LinkedList<Integer> linkedList = new LinkedList<>();
+        IntStream.range(-50_000, 50_000).forEach(linkedList::add);
+
+        LinkedListSnapshot.write(linkedList, path, ValueCodec.INTEGER);
+
+        Assert.assertEquals(12 + 4 * 100_000, Files.size(path));
+        Assert.assertEquals(linkedList, LinkedListSnapshot.read(path, ValueCodec.INTEGER));
+    }
+
+    @Test
+    public void testLongsInReversedView() throws IOException {
+        LinkedList<Long> linkedList = new LinkedList<>();
+        linkedList.add(Long.MIN_VALUE);
+        linkedList.add(0L);
+        linkedList.add(Long.MAX_VALUE);
+        linkedList.reverseLazily();
+
+        LinkedListSnapshot.write(linkedList, path, ValueCodec.LONG);
+        LinkedList<Long> read = LinkedListSnapshot.read(path, ValueCodec.LONG);
+
+        Assert.assertEquals(Long.MAX_VALUE, (long) read.getFirst());
+        Assert.assertEquals(Long.MIN_VALUE, (long) read.getLast());
+        Assert.assertEquals(3, read.size());
+    }
+
+    @Test
+    public void testStrings() throws IOException {
+        LinkedList<String> linkedList = new LinkedList<>();
+        linkedList.add("");
+        linkedList.add("\u00e1rv\u00edzt\u0171r\u0151 \u20ac \ud83d\ude00");
+        linkedList.add(new String(new char[200_000]).replace('\0', 'x'));
+        linkedList.add("last");
+
+        LinkedListSnapshot.write(linkedList, path, ValueCodec.STRING);
+
+        Assert.assertEquals(linkedList, LinkedListSnapshot.read(path, ValueCodec.STRING));
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        LinkedListSnapshot.write(new LinkedList<Integer>(), path, ValueCodec.INTEGER);
+
+        Assert.assertTrue(LinkedListSnapshot.read(path, ValueCodec.INTEGER).isEmpty());
+    }
+
+    @Test
+    public void testRecordsAcrossMappingWindows() throws IOException {
+        LinkedList<String> linkedList = IntStream.range(0, 1000)
+                .mapToObj(Integer::toString)
+                .collect(Collectors.toCollection(LinkedList::new));
+
+        LinkedListSnapshot.write(linkedList, path, ValueCodec.STRING);
+
+        Assert.assertEquals(linkedList, LinkedListSnapshot.read(path, ValueCodec.STRING, 37));
+    }
+
+    @Test
+    public void testCustomCodec() throws IOException {
+        ValueCodec<Character> codec = new ValueCodec<Character>() {
+
+            @Override
+            public void encode(Character value, ByteBuffer buffer) {
+                buffer.putChar(value);
+            }
+
+            @Override
+            public Character decode(ByteBuffer buffer) {
+                return buffer.getChar();
+            }
+        };
+
+        LinkedList<Character> linkedList = new LinkedList<>();
+        "snapshot".chars().forEach(c -> linkedList.add((char) c));
+
+        LinkedListSnapshot.write(linkedList, path, codec);
+
+        List<Character> read = new ArrayList<>(LinkedListSnapshot.read(path, codec));
+
+        Assert.assertEquals(linkedList, read);
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadExceptionTruncated() throws IOException {
+        LinkedList<Integer> linkedList = new LinkedList<>();
+        IntStream.range(0, 10).forEach(linkedList::add);
+
+        LinkedListSnapshot.write(linkedList, path, ValueCodec.INTEGER);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(path) - 2);
+        }
+
+        LinkedListSnapshot.read(path, ValueCodec.INTEGER);
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadExceptionNotSnapshot() throws IOException {
+        Files.write(path, "not a snapshot".getBytes());
+
+        LinkedListSnapshot.read(path, ValueCodec.INTEGER);
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadExceptionNegativeCount() throws IOException {
+        LinkedListSnapshot.write(new LinkedList<>(), path, ValueCodec.INTEGER);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, -1), 2 * Integer.BYTES);
+        }
+
+        LinkedListSnapshot.read(path, ValueCodec.INTEGER);
+    }
+
+    @Test
+    public void testReadExceptionNegativeStringLength() throws IOException {
+        LinkedList<String> linkedList = new LinkedList<>();
+        linkedList.add("first");
+        linkedList.add("second");
+
+        LinkedListSnapshot.write(linkedList, path, ValueCodec.STRING);
+
+        // length prefix of the second record: header, then 4 + 5 bytes of "first"
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, Integer.MIN_VALUE), 3 * Integer.BYTES + 9);
+        }
+
+        try {
+            LinkedListSnapshot.read(path, ValueCodec.STRING);
+            Assert.fail();
+        } catch (IOException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+    }
+}
@@ -1,9 +1,25 @@
 package com.examples.datastructure.linkedlist;
 
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
@@ -11,7 +27,7 @@ import java.util.stream.IntStream;
  *
  * @author Matyas Ember
  */
-public class LinkedListTest {
+public class LinkedListTest extends AbstractLinkedListTest {
 
     private LinkedList<Integer> linkedList;
 
@@ -20,382 +36,1020 @@ public class LinkedListTest {
         linkedList = new LinkedList<>();
     }
 
-    @Test
-    public void testAdd() {
-        linkedList.add(1);
+    @Override
+    TestedList createList() {
+        return new Adapter();
+    }
 
-        Assert.assertEquals(1, linkedList.size());
-        Assert.assertEquals(1, (int) linkedList.get(0));
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetExceptionSizeIndex() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
 
+        linkedList.get(4);
+    }
 
-        linkedList.add(2);
+    @Test
+    public void testGetFromBothEnds() {
+        IntStream.range(0, 100).forEach(linkedList::add);
 
-        Assert.assertEquals(2, linkedList.size());
-        Assert.assertEquals(1, (int) linkedList.get(0));
-        Assert.assertEquals(2, (int) linkedList.get(1));
+        for (int i = 99; i >= 0; i--) {
+            Assert.assertEquals(i, (int) linkedList.get(i));
+        }
+
+        for (int i = 0; i < 100; i += 7) {
+            Assert.assertEquals(i, (int) linkedList.get(i));
+            Assert.assertEquals(99 - i, (int) linkedList.get(99 - i));
+        }
     }
 
     @Test
-    public void testAddFirst() {
-        linkedList.addFirst(2);
+    public void testGetAfterModifications() {
+        IntStream.range(0, 10).forEach(linkedList::add);
+
+        Assert.assertEquals(5, (int) linkedList.get(5));
+
+        linkedList.addFirst(-1);
+        Assert.assertEquals(4, (int) linkedList.get(5));
+        Assert.assertEquals(5, (int) linkedList.get(6));
+
+        linkedList.removeFirst();
+        Assert.assertEquals(5, (int) linkedList.get(5));
+
+        linkedList.removeFirstOccurrence(2);
+        Assert.assertEquals(6, (int) linkedList.get(5));
+
+        linkedList.moveLastToFront();
+        Assert.assertEquals(5, (int) linkedList.get(5));
+        Assert.assertEquals(9, (int) linkedList.get(0));
+
+        linkedList.reverse();
+        Assert.assertEquals(5, (int) linkedList.get(3));
 
-        Assert.assertEquals(1, linkedList.size());
-        Assert.assertEquals(2, (int) linkedList.get(0));
+        linkedList.reverseLazily();
+        Assert.assertEquals(5, (int) linkedList.get(5));
 
+        linkedList.removeLastOccurrence(9);
+        Assert.assertEquals(5, (int) linkedList.get(4));
+        Assert.assertEquals(8, (int) linkedList.getLast());
 
-        linkedList.addFirst(1);
+        linkedList.removeLast();
+        Assert.assertEquals(7, (int) linkedList.getLast());
+        Assert.assertEquals(7, (int) linkedList.get(linkedList.size() - 1));
 
-        Assert.assertEquals(2, linkedList.size());
+        linkedList.clear();
+        linkedList.add(1);
         Assert.assertEquals(1, (int) linkedList.get(0));
-        Assert.assertEquals(2, (int) linkedList.get(1));
     }
 
     @Test
-    public void testSize() {
-        linkedList.add(1);
+    public void testRemoveSequentially() {
+        IntStream.range(0, 10).forEach(linkedList::add);
 
-        Assert.assertEquals(1, linkedList.size());
+        Assert.assertEquals(3, (int) linkedList.remove(3));
+        Assert.assertEquals(4, (int) linkedList.remove(3));
+        Assert.assertEquals(5, (int) linkedList.remove(3));
+        Assert.assertEquals(9, (int) linkedList.remove(6));
+        Assert.assertEquals(8, (int) linkedList.remove(5));
 
+        assertElements(0, 1, 2, 6, 7);
+    }
 
-        linkedList.add(2);
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testRemoveExceptionSizeIndex() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
 
-        Assert.assertEquals(2, linkedList.size());
+        linkedList.remove(4);
+    }
 
-        IntStream.rangeClosed(3, 4).forEach(linkedList::add);
+    @Test
+    public void testReverseLongList() {
+        IntStream.range(0, 1_000_000).forEach(linkedList::add);
 
-        Assert.assertEquals(4, linkedList.size());
+        linkedList.reverse();
+
+        Assert.assertEquals(1_000_000, linkedList.size());
+        Assert.assertEquals(999_999, (int) linkedList.getFirst());
+        Assert.assertEquals(0, (int) linkedList.getLast());
+        Assert.assertEquals(999_998, (int) linkedList.get(1));
     }
 
     @Test
-    public void testClear() {
+    public void testReverseLazily() {
         IntStream.rangeClosed(1, 4).forEach(linkedList::add);
 
-        Assert.assertEquals(4, linkedList.size());
+        linkedList.reverseLazily();
+
+        assertElements(4, 3, 2, 1);
+        Assert.assertTrue(linkedList.contains(3));
 
 
-        linkedList.clear();
+        linkedList.add(5);
+
+        assertElements(4, 3, 2, 1, 5);
+
 
-        Assert.assertEquals(0, linkedList.size());
+        linkedList.reverseLazily();
+        linkedList.removeFirst();
+
+        assertElements(1, 2, 3, 4);
     }
 
     @Test
-    public void testContains() {
+    public void testReversed() {
         IntStream.rangeClosed(1, 4).forEach(linkedList::add);
 
-        Assert.assertTrue(linkedList.contains(1));
-        Assert.assertTrue(linkedList.contains(2));
-        Assert.assertTrue(linkedList.contains(3));
-        Assert.assertTrue(linkedList.contains(4));
-        Assert.assertFalse(linkedList.contains(-1));
-        Assert.assertFalse(linkedList.contains(5));
+        LinkedList<Integer> reversed = linkedList.reversed();
+
+        Assert.assertEquals(Arrays.asList(4, 3, 2, 1), reversed);
+        assertElements(1, 2, 3, 4);
+
+
+        reversed.add(0);
+
+        Assert.assertEquals(Arrays.asList(4, 3, 2, 1, 0), reversed);
+        assertElements(1, 2, 3, 4);
     }
 
     @Test
-    public void testGet() {
+    public void testReversedThroughListAndDeque() throws ReflectiveOperationException {
+        // List.reversed and Deque.reversed exist from Java 21 on, called reflectively so the test compiles on 8
+        Method listReversed = findMethod(List.class, "reversed");
+        Method dequeReversed = findMethod(Deque.class, "reversed");
+
+        Assume.assumeTrue(listReversed != null && dequeReversed != null);
+
         IntStream.rangeClosed(1, 4).forEach(linkedList::add);
 
-        Assert.assertEquals(1, (int) linkedList.get(0));
-        Assert.assertEquals(2, (int) linkedList.get(1));
-        Assert.assertEquals(3, (int) linkedList.get(2));
-        Assert.assertEquals(4, (int) linkedList.get(3));
+        List<Integer> list = linkedList;
+        Deque<Integer> deque = linkedList;
+
+        Assert.assertEquals(Arrays.asList(4, 3, 2, 1), listReversed.invoke(list));
+        Assert.assertEquals(Arrays.asList(4, 3, 2, 1), dequeReversed.invoke(deque));
+        Assert.assertTrue(dequeReversed.invoke(deque) instanceof LinkedList);
+        assertElements(1, 2, 3, 4);
     }
 
-    @Test(expected = ArrayIndexOutOfBoundsException.class)
-    public void testGetExceptionLessThanZeroIndex() {
-        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+    @Test
+    public void testReverseLazilyTwice() {
+        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
 
-        linkedList.get(-1);
+        linkedList.reverseLazily();
+        linkedList.reverseLazily();
+
+        assertElements(1, 2, 3);
     }
 
-    @Test(expected = ArrayIndexOutOfBoundsException.class)
-    public void testGetExceptionGreaterThanMaxIndex() {
-        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+    @Test
+    public void testReverseAfterReverseLazily() {
+        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
 
-        linkedList.get(5);
+        linkedList.reverseLazily();
+        linkedList.reverse();
+
+        assertElements(1, 2, 3);
+
+
+        linkedList.reverseLazily();
+        linkedList.moveLastToFront();
+
+        assertElements(1, 3, 2);
     }
 
     @Test
-    public void testGetFirst() {
-        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+    public void testSort() {
+        Random random = new Random(3);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(100);
+            expected.add(value);
+            linkedList.add(value);
+        }
 
-        Assert.assertEquals(1, (int) linkedList.getFirst());
+        Collections.sort(expected);
+        linkedList.sort();
+
+        List<Integer> actual = new ArrayList<>();
+        linkedList.forEach(actual::add);
+
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(expected.get(999), linkedList.getLast());
+        Assert.assertEquals(expected.lastIndexOf(50), linkedList.lastIndexOf(50));
     }
 
     @Test
-    public void testGetLast() {
-        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+    public void testSortIsStable() {
+        IntStream.of(31, 12, 33, 14, 25, 16, 37, 18, 29).forEach(linkedList::add);
+
+        linkedList.sort(Comparator.comparing(value -> value / 10));
 
-        Assert.assertEquals(4, (int) linkedList.getLast());
+        assertElements(12, 14, 16, 18, 25, 29, 31, 33, 37);
     }
 
     @Test
-    public void testIndexOf() {
-        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
-        linkedList.add(4);
-        linkedList.add(2);
+    public void testSortReversedView() {
+        IntStream.of(3, 1, 2).forEach(linkedList::add);
+
+        linkedList.reverseLazily();
+        linkedList.sort(Comparator.reverseOrder());
 
-        Assert.assertEquals(0, linkedList.indexOf(1));
-        Assert.assertEquals(1, linkedList.indexOf(2));
-        Assert.assertEquals(2, linkedList.indexOf(3));
-        Assert.assertEquals(3, linkedList.indexOf(4));
-        Assert.assertEquals(-1, linkedList.indexOf(5));
+        assertElements(3, 2, 1);
     }
 
     @Test
-    public void testLastIndexOf() {
-        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
-        linkedList.add(4);
-        linkedList.add(2);
+    public void testSortEmptyAndOneElement() {
+        linkedList.sort();
 
-        Assert.assertEquals(5, linkedList.lastIndexOf(2));
-        Assert.assertEquals(4, linkedList.lastIndexOf(4));
-        Assert.assertEquals(2, linkedList.lastIndexOf(3));
-        Assert.assertEquals(0, linkedList.lastIndexOf(1));
-        Assert.assertEquals(-1, linkedList.lastIndexOf(5));
+        assertElements();
+
+
+        linkedList.add(1);
+        linkedList.sort();
+
+        assertElements(1);
     }
 
     @Test
-    public void testIsEmpty() {
-        Assert.assertTrue(linkedList.isEmpty());
+    public void testSortNullComparator() {
+        IntStream.of(3, 1, 2).forEach(linkedList::add);
+
+        Collections.sort(linkedList);
+
+        assertElements(1, 2, 3);
+
+
+        linkedList.addFirst(4);
+        linkedList.sort(null);
+
+        assertElements(1, 2, 3, 4);
+    }
+
+    @Test
+    public void testNullElements() {
+        for (boolean indexed : new boolean[]{false, true}) {
+            linkedList = new LinkedList<>();
+            linkedList.setIndexed(indexed);
+            linkedList.add(1);
+            linkedList.add(null);
+            linkedList.add(2);
+            linkedList.add(null);
+
+            Assert.assertTrue(linkedList.contains(2));
+            Assert.assertTrue(linkedList.contains(null));
+            Assert.assertFalse(linkedList.contains(3));
+            Assert.assertEquals(1, linkedList.indexOf(null));
+            Assert.assertEquals(3, linkedList.lastIndexOf(null));
+            Assert.assertEquals(2, linkedList.indexOf(2));
+
+            Assert.assertTrue(linkedList.removeLastOccurrence(null));
+            Assert.assertTrue(linkedList.removeFirstOccurrence(null));
+            Assert.assertFalse(linkedList.contains(null));
+
+            linkedList.set(0, null);
+
+            Assert.assertEquals(0, linkedList.indexOf(null));
+            Assert.assertEquals(Arrays.asList(null, 2), new ArrayList<>(linkedList));
+        }
     }
 
     @Test
-    public void testRemove() {
+    public void testIterator() {
         IntStream.rangeClosed(1, 4).forEach(linkedList::add);
 
+        int expected = 1;
 
-        Assert.assertEquals(1, (int) linkedList.remove(0));
+        for (int value : linkedList) {
+            Assert.assertEquals(expected++, value);
+        }
 
-        Assert.assertEquals(3, linkedList.size());
-        Assert.assertEquals(2, (int) linkedList.get(0));
-        Assert.assertEquals(3, (int) linkedList.get(1));
-        Assert.assertEquals(4, (int) linkedList.get(2));
+        Assert.assertEquals(5, expected);
+    }
 
+    @Test
+    public void testIteratorReversedView() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+
+        linkedList.reverseLazily();
 
-        Assert.assertEquals(3, (int) linkedList.remove(1));
+        Assert.assertEquals("4 3 2 1", linkedList.stream().map(String::valueOf).collect(Collectors.joining(" ")));
+    }
 
-        Assert.assertEquals(2, linkedList.size());
-        Assert.assertEquals(2, (int) linkedList.get(0));
-        Assert.assertEquals(4, (int) linkedList.get(1));
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorExceptionNoMoreElement() {
+        linkedList.add(1);
 
+        Iterator<Integer> iterator = linkedList.iterator();
+        iterator.next();
+        iterator.next();
+    }
 
-        Assert.assertEquals(4, (int) linkedList.remove(1));
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
 
-        Assert.assertEquals(1, linkedList.size());
+        for (int value : linkedList) {
+            if (value == 2) {
+                linkedList.removeFirst();
+            }
+        }
+    }
 
+    @Test
+    public void testIteratorRemove() {
+        IntStream.rangeClosed(1, 6).forEach(linkedList::add);
 
-        Assert.assertEquals(2, (int) linkedList.remove(0));
+        Iterator<Integer> iterator = linkedList.iterator();
 
-        Assert.assertEquals(0, linkedList.size());
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertElements(1, 3, 5);
     }
 
-    @Test(expected = ArrayIndexOutOfBoundsException.class)
-    public void testRemoveExceptionLessThanZeroIndex() {
+    @Test(expected = IllegalStateException.class)
+    public void testIteratorRemoveExceptionWithoutNext() {
+        linkedList.add(1);
+
+        linkedList.iterator().remove();
+    }
+
+    @Test
+    public void testListIteratorAddAndSet() {
+        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
+
+        ListIterator<Integer> iterator = linkedList.listIterator();
+        iterator.add(0);
+        iterator.next();
+        iterator.set(10);
+        iterator.next();
+        iterator.add(15);
+        iterator.next();
+        iterator.add(4);
+
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertEquals(6, iterator.nextIndex());
+        assertElements(0, 10, 2, 15, 3, 4);
+    }
+
+    @Test
+    public void testListIteratorBackwards() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+
+        ListIterator<Integer> iterator = linkedList.listIterator(linkedList.size());
+
+        Assert.assertEquals(4, (int) iterator.previous());
+        Assert.assertEquals(3, (int) iterator.previous());
+        iterator.remove();
+        Assert.assertEquals(2, (int) iterator.previous());
+        iterator.add(5);
+        Assert.assertEquals(5, (int) iterator.previous());
+        Assert.assertEquals(1, (int) iterator.previous());
+        Assert.assertFalse(iterator.hasPrevious());
+
+        assertElements(1, 5, 2, 4);
+    }
+
+    @Test
+    public void testListIteratorFromIndex() {
         IntStream.rangeClosed(1, 4).forEach(linkedList::add);
 
-        linkedList.remove(-1);
+        ListIterator<Integer> iterator = linkedList.listIterator(2);
+
+        Assert.assertEquals(1, iterator.previousIndex());
+        Assert.assertEquals(3, (int) iterator.next());
+        iterator.remove();
+        Assert.assertEquals(4, (int) iterator.next());
+
+        assertElements(1, 2, 4);
     }
 
     @Test(expected = ArrayIndexOutOfBoundsException.class)
-    public void testRemoveExceptionGreaterThanMaxIndex() {
+    public void testListIteratorExceptionGreaterThanSizeIndex() {
+        linkedList.listIterator(1);
+    }
+
+    @Test
+    public void testSpliterator() {
         IntStream.rangeClosed(1, 4).forEach(linkedList::add);
 
-        linkedList.remove(-5);
+        Spliterator<Integer> spliterator = linkedList.spliterator();
+
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        Assert.assertEquals(4, spliterator.getExactSizeIfKnown());
+        Assert.assertEquals(10, linkedList.stream().mapToInt(Integer::intValue).sum());
     }
 
     @Test
-    public void testRemoveFirst() {
-        IntStream.rangeClosed(1, 2).forEach(linkedList::add);
+    public void testSpliteratorSplit() {
+        IntStream.range(0, 10_000).forEach(linkedList::add);
 
+        Spliterator<Integer> spliterator = linkedList.spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
 
-        linkedList.removeFirst();
+        Assert.assertNotNull(prefix);
+        Assert.assertEquals(10_000, prefix.estimateSize() + spliterator.estimateSize());
 
-        Assert.assertEquals(1, linkedList.size());
-        Assert.assertEquals(2, (int) linkedList.get(0));
+        List<Integer> values = new ArrayList<>();
+        prefix.forEachRemaining(values::add);
+        spliterator.forEachRemaining(values::add);
 
+        Assert.assertEquals(10_000, values.size());
 
-        linkedList.removeFirst();
+        for (int i = 0; i < values.size(); i++) {
+            Assert.assertEquals(i, (int) values.get(i));
+        }
+    }
 
-        Assert.assertEquals(0, linkedList.size());
+    @Test
+    public void testParallelStream() {
+        IntStream.range(0, 100_000).forEach(linkedList::add);
 
+        Assert.assertEquals(4_999_950_000L, linkedList.parallelStream().mapToLong(Integer::longValue).sum());
+        Assert.assertEquals(50_000, linkedList.parallelStream().filter(value -> value % 2 == 0).count());
+        Assert.assertEquals(99_999, (int) linkedList.parallelStream().reduce(0, Math::max));
+    }
 
-        linkedList.removeFirst();
+    @Test(expected = ConcurrentModificationException.class)
+    public void testSpliteratorFailFast() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+
+        linkedList.spliterator().forEachRemaining(value -> linkedList.add(value));
     }
 
     @Test
-    public void testRemoveLast() {
-        IntStream.rangeClosed(1, 2).forEach(linkedList::add);
+    public void testNodePool() {
+        linkedList = new LinkedList<>(2);
 
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
 
+        Assert.assertEquals(1, (int) linkedList.remove(0));
+        linkedList.removeFirst();
         linkedList.removeLast();
+        assertElements(3);
 
-        Assert.assertEquals(1, linkedList.size());
-        Assert.assertEquals(1, (int) linkedList.get(0));
 
+        linkedList.add(5);
+        linkedList.addFirst(6);
+        linkedList.add(7);
+        assertElements(6, 3, 5, 7);
 
-        linkedList.removeLast();
 
-        Assert.assertEquals(0, linkedList.size());
+        ListIterator<Integer> iterator = linkedList.listIterator(1);
+        iterator.next();
+        iterator.remove();
+        iterator.add(8);
+        assertElements(6, 8, 5, 7);
 
 
-        linkedList.removeLast();
+        for (int i = 0; i < 1000; i++) {
+            linkedList.add(i);
+            linkedList.removeFirst();
+        }
+
+        Assert.assertEquals(4, linkedList.size());
+        Assert.assertEquals(996, (int) linkedList.getFirst());
+        Assert.assertEquals(999, (int) linkedList.getLast());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNodePoolExceptionNegativeCapacity() {
+        new LinkedList<Integer>(-1);
     }
 
     @Test
-    public void testRemoveFirstOccurrence() {
-        IntStream.rangeClosed(1, 2).forEach(linkedList::add);
-        IntStream.rangeClosed(2, 3).forEach(linkedList::add);
-        linkedList.add(2);
+    public void testIndexed() {
+        IntStream.of(1, 2, 3, 2, 1).forEach(linkedList::add);
 
+        linkedList.setIndexed(true);
 
-        boolean resultIsContained = linkedList.removeFirstOccurrence(2);
+        Assert.assertTrue(linkedList.isIndexed());
+        Assert.assertTrue(linkedList.contains(3));
+        Assert.assertFalse(linkedList.contains(4));
+        Assert.assertEquals(-1, linkedList.indexOf(4));
+        Assert.assertEquals(3, linkedList.lastIndexOf(2));
 
-        Assert.assertTrue(resultIsContained);
-        Assert.assertEquals(4, linkedList.size());
-        Assert.assertEquals(1, (int) linkedList.get(0));
-        Assert.assertEquals(2, (int) linkedList.get(1));
-        Assert.assertEquals(3, (int) linkedList.get(2));
-        Assert.assertEquals(2, (int) linkedList.get(3));
+        Assert.assertTrue(linkedList.removeFirstOccurrence(2));
+        Assert.assertTrue(linkedList.removeLastOccurrence(1));
+        assertElements(1, 3, 2);
 
 
-        linkedList.removeFirstOccurrence(2);
+        linkedList.reverseLazily();
+        Assert.assertTrue(linkedList.removeFirstOccurrence(2));
+        assertElements(3, 1);
 
-        Assert.assertEquals(3, linkedList.size());
-        Assert.assertEquals(1, (int) linkedList.get(0));
-        Assert.assertEquals(3, (int) linkedList.get(1));
-        Assert.assertEquals(2, (int) linkedList.get(2));
 
+        linkedList.clear();
+        Assert.assertFalse(linkedList.contains(1));
 
-        linkedList.removeFirstOccurrence(2);
 
-        Assert.assertEquals(2, linkedList.size());
-        Assert.assertEquals(1, (int) linkedList.get(0));
-        Assert.assertEquals(3, (int) linkedList.get(1));
+        linkedList.setIndexed(false);
+        linkedList.add(1);
+        Assert.assertFalse(linkedList.isIndexed());
+        Assert.assertTrue(linkedList.contains(1));
+    }
+
+    @Test
+    public void testIndexedRandomOperationsAgainstArrayList() {
+        Random random = new Random(11);
+        List<Integer> expected = new ArrayList<>();
+
+        linkedList = new LinkedList<>(8);
+        linkedList.setIndexed(true);
+
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(20);
+
+            switch (random.nextInt(14)) {
+                case 0:
+                case 1:
+                    linkedList.add(value);
+                    expected.add(value);
+                    break;
+                case 2:
+                    linkedList.addFirst(value);
+                    expected.add(0, value);
+                    break;
+                case 3:
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assert.assertEquals(expected.remove(index), linkedList.remove(index));
+                    }
+                    break;
+                case 4:
+                    Assert.assertEquals(expected.remove((Integer) value), linkedList.removeFirstOccurrence(value));
+                    break;
+                case 5:
+                    int last = expected.lastIndexOf(value);
+                    if (last >= 0) {
+                        expected.remove(last);
+                    }
+                    Assert.assertEquals(last >= 0, linkedList.removeLastOccurrence(value));
+                    break;
+                case 6:
+                    Collections.reverse(expected);
+                    if (random.nextBoolean()) {
+                        linkedList.reverse();
+                    } else {
+                        linkedList.reverseLazily();
+                    }
+                    break;
+                case 7:
+                    if (expected.size() > 1) {
+                        expected.add(0, expected.remove(expected.size() - 1));
+                    }
+                    linkedList.moveLastToFront();
+                    break;
+                case 8:
+                    int position = random.nextInt(expected.size() + 1);
+                    linkedList.listIterator(position).add(value);
+                    expected.add(position, value);
+                    break;
+                case 9:
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        ListIterator<Integer> iterator = linkedList.listIterator(index);
+                        iterator.next();
+                        iterator.set(value);
+                        expected.set(index, value);
+                    }
+                    break;
+                case 10:
+                    if (random.nextInt(20) == 0) {
+                        Collections.sort(expected);
+                        linkedList.sort();
+                    }
+                    break;
+                case 11:
+                    int at = random.nextInt(expected.size() + 1);
+                    List<Integer> values = Arrays.asList(value, random.nextInt(20), value);
+                    linkedList.addAll(at, values);
+                    expected.addAll(at, values);
+                    break;
+                case 12:
+                    if (random.nextInt(10) == 0) {
+                        Assert.assertEquals(expected.removeIf(v -> v % 7 == value % 7),
+                                linkedList.removeIf(v -> v % 7 == value % 7));
+                    }
+                    break;
+                default:
+                    Assert.assertEquals(expected.contains(value), linkedList.contains(value));
+                    Assert.assertEquals(expected.indexOf(value), linkedList.indexOf(value));
+                    Assert.assertEquals(expected.lastIndexOf(value), linkedList.lastIndexOf(value));
+            }
+
+            Assert.assertEquals(expected.size(), linkedList.size());
+        }
+
+        List<Integer> actual = new ArrayList<>();
+        linkedList.forEach(actual::add);
+
+        Assert.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testAddAll() {
+        Assert.assertFalse(linkedList.addAll(Collections.emptyList()));
+        Assert.assertTrue(linkedList.addAll(Arrays.asList(3, 4)));
+        assertElements(3, 4);
 
+        linkedList.addAll(0, Arrays.asList(1, 2));
+        assertElements(1, 2, 3, 4);
 
-        boolean resultIsNotContained = linkedList.removeFirstOccurrence(2);
+        linkedList.addAll(2, Arrays.asList(5, 6));
+        assertElements(1, 2, 5, 6, 3, 4);
 
-        Assert.assertFalse(resultIsNotContained);
+        linkedList.reverseLazily();
+        linkedList.addAll(6, Collections.singletonList(7));
+        assertElements(4, 3, 6, 5, 2, 1, 7);
     }
 
     @Test
-    public void testRemoveLastOccurrence() {
-        IntStream.rangeClosed(1, 2).forEach(linkedList::add);
-        IntStream.rangeClosed(2, 3).forEach(linkedList::add);
-        linkedList.add(2);
+    public void testAddAllKeepsFinger() {
+        IntStream.range(0, 10).forEach(linkedList::add);
 
+        Assert.assertEquals(8, (int) linkedList.get(8));
 
-        boolean resultIsContained = linkedList.removeLastOccurrence(2);
+        linkedList.addAll(3, Arrays.asList(20, 21));
 
-        Assert.assertTrue(resultIsContained);
-        Assert.assertEquals(4, linkedList.size());
-        Assert.assertEquals(1, (int) linkedList.get(0));
-        Assert.assertEquals(2, (int) linkedList.get(1));
-        Assert.assertEquals(2, (int) linkedList.get(2));
-        Assert.assertEquals(3, (int) linkedList.get(3));
+        Assert.assertEquals(8, (int) linkedList.get(10));
+        Assert.assertEquals(7, (int) linkedList.get(9));
+        Assert.assertEquals(21, (int) linkedList.get(4));
+    }
 
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testAddAllExceptionGreaterThanSizeIndex() {
+        linkedList.add(1);
+        linkedList.addAll(2, Collections.singletonList(2));
+    }
 
-        linkedList.removeLastOccurrence(2);
+    @Test
+    public void testRemoveAllRetainAllRemoveIf() {
+        IntStream.rangeClosed(1, 10).forEach(linkedList::add);
 
-        Assert.assertEquals(3, linkedList.size());
-        Assert.assertEquals(1, (int) linkedList.get(0));
-        Assert.assertEquals(2, (int) linkedList.get(1));
-        Assert.assertEquals(3, (int) linkedList.get(2));
+        Assert.assertTrue(linkedList.removeAll(new HashSet<>(Arrays.asList(1, 5, 10, 11))));
+        assertElements(2, 3, 4, 6, 7, 8, 9);
 
+        Assert.assertFalse(linkedList.removeAll(Collections.singleton(11)));
 
-        linkedList.removeLastOccurrence(2);
+        Assert.assertTrue(linkedList.retainAll(new HashSet<>(Arrays.asList(2, 3, 6, 8, 9))));
+        assertElements(2, 3, 6, 8, 9);
 
-        Assert.assertEquals(2, linkedList.size());
-        Assert.assertEquals(1, (int) linkedList.get(0));
-        Assert.assertEquals(3, (int) linkedList.get(1));
+        linkedList.reverseLazily();
+        Assert.assertTrue(linkedList.removeIf(value -> value % 3 == 0));
+        assertElements(8, 2);
+
+        Assert.assertTrue(linkedList.removeIf(value -> true));
+        assertElements();
+    }
+
+    @Test
+    public void testSplice() {
+        LinkedList<Integer> other = new LinkedList<>();
+        IntStream.rangeClosed(4, 6).forEach(other::add);
+        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
 
+        linkedList.setIndexed(true);
+        linkedList.splice(other);
+        assertElements(1, 2, 3, 4, 5, 6);
+        Assert.assertTrue(linkedList.removeFirstOccurrence(5));
+        Assert.assertTrue(other.isEmpty());
+        Assert.assertNull(other.getFirst());
 
-        boolean resultIsNotContained = linkedList.removeLastOccurrence(2);
 
-        Assert.assertFalse(resultIsNotContained);
+        other.add(7);
+        other.add(8);
+        other.reverseLazily();
+        linkedList.splice(other);
+        assertElements(1, 2, 3, 4, 6, 8, 7);
+
+
+        linkedList.splice(other);
+        other.splice(linkedList);
+        Assert.assertEquals(7, other.size());
+        Assert.assertEquals(7, (int) other.getLast());
+
+        linkedList = other;
+        assertElements(1, 2, 3, 4, 6, 8, 7);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSpliceExceptionSelf() {
+        linkedList.splice(linkedList);
     }
 
     @Test
-    public void testReverseEvenElementNum() {
+    public void testDequeOperations() {
+        Assert.assertTrue(linkedList.offer(2));
+        Assert.assertTrue(linkedList.offerFirst(1));
+        Assert.assertTrue(linkedList.offerLast(3));
+        linkedList.push(0);
+        assertElements(0, 1, 2, 3);
+
+        Assert.assertEquals(0, (int) linkedList.peek());
+        Assert.assertEquals(0, (int) linkedList.peekFirst());
+        Assert.assertEquals(3, (int) linkedList.peekLast());
+        Assert.assertEquals(0, (int) linkedList.element());
+
+        Assert.assertEquals(0, (int) linkedList.pop());
+        Assert.assertEquals(1, (int) linkedList.poll());
+        Assert.assertEquals(3, (int) linkedList.pollLast());
+        Assert.assertEquals(2, (int) linkedList.remove());
+        assertElements();
+
+        Assert.assertNull(linkedList.poll());
+        Assert.assertNull(linkedList.pollFirst());
+        Assert.assertNull(linkedList.pollLast());
+        Assert.assertNull(linkedList.peek());
+        Assert.assertNull(linkedList.removeFirst());
+        Assert.assertNull(linkedList.removeLast());
+    }
+
+    @Test
+    public void testRemoveFirstAndLastReturnValue() {
         IntStream.rangeClosed(1, 4).forEach(linkedList::add);
 
-        linkedList.reverse();
+        Assert.assertEquals(1, (int) linkedList.removeFirst());
+        Assert.assertEquals(4, (int) linkedList.removeLast());
 
-        Assert.assertEquals(4, linkedList.size());
-        Assert.assertEquals(4, (int) linkedList.get(0));
-        Assert.assertEquals(3, (int) linkedList.get(1));
-        Assert.assertEquals(2, (int) linkedList.get(2));
-        Assert.assertEquals(1, (int) linkedList.get(3));
-    }
+        linkedList.reverseLazily();
 
-    @Test
-    public void testReverseOddElementNum() {
-        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
+        Assert.assertEquals(3, (int) linkedList.removeFirst());
+        Assert.assertEquals(2, (int) linkedList.removeLast());
+        assertElements();
+    }
 
-        linkedList.reverse();
+    @Test(expected = NoSuchElementException.class)
+    public void testPopExceptionEmpty() {
+        linkedList.pop();
+    }
 
-        Assert.assertEquals(3, linkedList.size());
-        Assert.assertEquals(3, (int) linkedList.get(0));
-        Assert.assertEquals(2, (int) linkedList.get(1));
-        Assert.assertEquals(1, (int) linkedList.get(2));
+    @Test(expected = NoSuchElementException.class)
+    public void testElementExceptionEmpty() {
+        linkedList.element();
     }
 
     @Test
-    public void testReverseOneElement() {
-        linkedList.add(1);
+    public void testDescendingIterator() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
 
-        linkedList.reverse();
+        Iterator<Integer> iterator = linkedList.descendingIterator();
+        List<Integer> values = new ArrayList<>();
 
-        Assert.assertEquals(1, linkedList.size());
-        Assert.assertEquals(1, (int) linkedList.get(0));
+        while (iterator.hasNext()) {
+            int value = iterator.next();
+            values.add(value);
+
+            if (value == 3) {
+                iterator.remove();
+            }
+        }
+
+        Assert.assertEquals(Arrays.asList(4, 3, 2, 1), values);
+        assertElements(1, 2, 4);
     }
 
     @Test
-    public void testReverseEmpty() {
-        linkedList.reverse();
+    public void testListInterface() {
+        IntStream.rangeClosed(1, 5).forEach(linkedList::add);
+
+        List<Integer> list = linkedList;
+
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 5), list);
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 5).hashCode(), list.hashCode());
+        Assert.assertEquals("[1, 2, 3, 4, 5]", list.toString());
+        Assert.assertTrue(list.containsAll(Arrays.asList(5, 1)));
+        Assert.assertEquals(3, Collections.max(list.subList(0, 3)).intValue());
+
+        list.add(0, 0);
+        Assert.assertEquals(5, (int) list.set(5, 6));
+        Assert.assertTrue(list.remove((Integer) 3));
+        assertElements(0, 1, 2, 4, 6);
 
-        Assert.assertEquals(0, linkedList.size());
+        list.subList(1, 3).clear();
+        assertElements(0, 4, 6);
+
+        Collections.reverse(list);
+        assertElements(6, 4, 0);
     }
 
     @Test
-    public void moveLastToFrontEvenElementNum() {
-        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+    public void testSubListView() {
+        IntStream.rangeClosed(1, 6).forEach(linkedList::add);
 
-        linkedList.moveLastToFront();
+        List<Integer> subList = linkedList.subList(2, 5);
+        subList.add(7);
+        subList.remove((Integer) 4);
 
-        Assert.assertEquals(4, linkedList.size());
-        Assert.assertEquals(4, (int) linkedList.get(0));
-        Assert.assertEquals(1, (int) linkedList.get(1));
-        Assert.assertEquals(2, (int) linkedList.get(2));
-        Assert.assertEquals(3, (int) linkedList.get(3));
+        Assert.assertEquals(Arrays.asList(3, 5, 7), subList);
+        assertElements(1, 2, 3, 5, 7, 6);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testSubListFailFast() {
+        IntStream.rangeClosed(1, 6).forEach(linkedList::add);
+
+        List<Integer> subList = linkedList.subList(2, 5);
+        linkedList.add(7);
+        subList.size();
     }
 
     @Test
-    public void moveLastToFrontOddElementNum() {
+    public void testToArray() {
         IntStream.rangeClosed(1, 3).forEach(linkedList::add);
+        linkedList.reverseLazily();
 
-        linkedList.moveLastToFront();
+        Assert.assertArrayEquals(new Object[]{3, 2, 1}, linkedList.toArray());
+        Assert.assertArrayEquals(new Integer[]{3, 2, 1}, linkedList.toArray(new Integer[0]));
+
+        Integer[] array = {9, 9, 9, 9, 9};
 
-        Assert.assertEquals(3, linkedList.size());
-        Assert.assertEquals(3, (int) linkedList.get(0));
-        Assert.assertEquals(1, (int) linkedList.get(1));
-        Assert.assertEquals(2, (int) linkedList.get(2));
+        Assert.assertSame(array, linkedList.toArray(array));
+        Assert.assertArrayEquals(new Integer[]{3, 2, 1, null, 9}, array);
     }
 
     @Test
-    public void moveLastToFrontOneElement() {
-        linkedList.add(1);
+    public void testTailAndSizeInvariants() {
+        assertElements();
+
+        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
+        assertElements(1, 2, 3);
+
+        linkedList.addFirst(0);
+        assertElements(0, 1, 2, 3);
+
+        linkedList.addLast(4);
+        assertElements(0, 1, 2, 3, 4);
 
         linkedList.moveLastToFront();
+        assertElements(4, 0, 1, 2, 3);
 
-        Assert.assertEquals(1, linkedList.size());
-        Assert.assertEquals(1, (int) linkedList.get(0));
+        linkedList.removeLast();
+        assertElements(4, 0, 1, 2);
+
+        linkedList.remove(3);
+        assertElements(4, 0, 1);
+
+        linkedList.removeFirstOccurrence(1);
+        assertElements(4, 0);
+
+        linkedList.add(5);
+        assertElements(4, 0, 5);
+
+        linkedList.removeLastOccurrence(5);
+        assertElements(4, 0);
+
+        linkedList.reverse();
+        assertElements(0, 4);
+
+        linkedList.add(6);
+        assertElements(0, 4, 6);
+
+        linkedList.removeFirst();
+        assertElements(4, 6);
+
+        linkedList.clear();
+        assertElements();
+
+        linkedList.addFirst(7);
+        assertElements(7);
+
+        linkedList.removeLast();
+        assertElements();
+
+        linkedList.add(8);
+        assertElements(8);
     }
 
-    @Test
-    public void moveLastToFrontEmpty() {
-        linkedList.moveLastToFront();
+    /**
+     * Checks size, both ends and the links in both directions (expected values must be distinct).
+     */
+    private static Method findMethod(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private void assertElements(int... expected) {
+        Assert.assertEquals(expected.length, linkedList.size());
+        Assert.assertEquals(expected.length == 0, linkedList.isEmpty());
+
+        if (expected.length == 0) {
+            Assert.assertNull(linkedList.getFirst());
+            Assert.assertNull(linkedList.getLast());
+            return;
+        }
+
+        Assert.assertEquals(expected[0], (int) linkedList.getFirst());
+        Assert.assertEquals(expected[expected.length - 1], (int) linkedList.getLast());
+
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(expected[i], (int) linkedList.get(i));
+            Assert.assertEquals(i, linkedList.indexOf(expected[i]));
+            Assert.assertEquals(i, linkedList.lastIndexOf(expected[i]));
+        }
+    }
 
-        Assert.assertEquals(0, linkedList.size());
+    /**
+     * Adapter: the tested list behind the shared tests.
+     */
+    private static final class Adapter implements TestedList {
+
+        private final LinkedList<Integer> list = new LinkedList<>();
+
+        @Override
+        public boolean add(Integer value) {
+            return list.add(value);
+        }
+
+        @Override
+        public void addFirst(Integer value) {
+            list.addFirst(value);
+        }
+
+        @Override
+        public void clear() {
+            list.clear();
+        }
+
+        @Override
+        public boolean contains(Integer value) {
+            return list.contains(value);
+        }
+
+        @Override
+        public Integer get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public Integer getFirst() {
+            return list.getFirst();
+        }
+
+        @Override
+        public Integer getLast() {
+            return list.getLast();
+        }
+
+        @Override
+        public int indexOf(Integer value) {
+            return list.indexOf(value);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return list.isEmpty();
+        }
+
+        @Override
+        public int lastIndexOf(Integer value) {
+            return list.lastIndexOf(value);
+        }
+
+        @Override
+        public void moveLastToFront() {
+            list.moveLastToFront();
+        }
+
+        @Override
+        public Integer remove(int index) {
+            return list.remove(index);
+        }
+
+        @Override
+        public void removeFirst() {
+            list.removeFirst();
+        }
+
+        @Override
+        public boolean removeFirstOccurrence(Integer value) {
+            return list.removeFirstOccurrence(value);
+        }
+
+        @Override
+        public void removeLast() {
+            list.removeLast();
+        }
+
+        @Override
+        public boolean removeLastOccurrence(Integer value) {
+            return list.removeLastOccurrence(value);
+        }
+
+        @Override
+        public void reverse() {
+            list.reverse();
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
     }
 }
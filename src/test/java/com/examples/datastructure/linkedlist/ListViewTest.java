@@ -0,0 +1,136 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Test class.
+ *
+ * @author Matyas Ember
+ */
+public class ListViewTest {
+
+    private LinkedList<Integer> linkedList;
+
+    private List<Integer> visited;
+
+    @Before
+    public void init() {
+        linkedList = new LinkedList<>();
+        IntStream.rangeClosed(1, 10).forEach(linkedList::add);
+
+        visited = new ArrayList<>();
+    }
+
+    @Test
+    public void testMapAndFilter() {
+        List<String> expected = linkedList.stream()
+                .filter(value -> value % 2 == 0)
+                .map(value -> "v" + value * value)
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(expected, linkedList.filter(value -> value % 2 == 0).map(value -> "v" + value * value).toList());
+        Assert.assertEquals(10, linkedList.size());
+    }
+
+    @Test
+    public void testLaziness() {
+        ListView<Integer> view = linkedList.map(this::visit).filter(value -> value > 5);
+
+        Assert.assertTrue(visited.isEmpty());
+
+        linkedList.add(11);
+
+        Assert.assertEquals(6, view.count());
+        Assert.assertEquals(11, visited.size());
+    }
+
+    @Test
+    public void testShortCircuit() {
+        Assert.assertEquals(Optional.of(3), linkedList.map(this::visit).filter(value -> value > 2).findFirst());
+        Assert.assertEquals(Arrays.asList(1, 2, 3), visited);
+
+        visited.clear();
+
+        Assert.assertEquals(Arrays.asList(1, 2), linkedList.map(this::visit).limit(2).toList());
+        Assert.assertEquals(Arrays.asList(1, 2), visited);
+
+        visited.clear();
+
+        Assert.assertEquals(Arrays.asList(1, 2, 3), linkedList.map(this::visit).takeWhile(value -> value < 4).toList());
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 4), visited);
+
+        visited.clear();
+
+        Assert.assertTrue(linkedList.map(this::visit).anyMatch(value -> value == 5));
+        Assert.assertEquals(5, visited.size());
+    }
+
+    @Test
+    public void testAnyMatchAndFindFirstAfterEarlyEnd() {
+        Assert.assertFalse(linkedList.limit(2).anyMatch(value -> value > 5));
+        Assert.assertFalse(linkedList.takeWhile(value -> value < 3).anyMatch(value -> value > 5));
+        Assert.assertFalse(linkedList.limit(0).findFirst().isPresent());
+        Assert.assertFalse(new LinkedList<Integer>().view().findFirst().isPresent());
+    }
+
+    @Test
+    public void testZip() {
+        List<String> letters = Arrays.asList("a", "b", "c");
+
+        Assert.assertEquals(Arrays.asList("1a", "2b", "3c"), linkedList.zip(letters, (value, letter) -> value + letter).toList());
+        Assert.assertEquals(Arrays.asList("a1", "b2", "c3"),
+                ListView.of(letters).zip(linkedList, (letter, value) -> letter + value).toList());
+
+        Assert.assertEquals(0, linkedList.map(this::visit).zip(Collections.emptyList(), (value, other) -> value).count());
+        Assert.assertTrue(visited.isEmpty());
+    }
+
+    @Test
+    public void testFlatMap() {
+        Assert.assertEquals(Arrays.asList(1, 1, 2, 2, 3, 3),
+                linkedList.limit(3).flatMap(value -> ListView.of(Arrays.asList(value, value))).toList());
+
+        // the inner views ending early do not end the outer walk, the outer limit does
+        Assert.assertEquals(Arrays.asList(1, 1, 2, 2, 3),
+                linkedList.flatMap(value -> linkedList.view().limit(2).map(other -> value)).limit(5).toList());
+    }
+
+    @Test
+    public void testReduceAndForEach() {
+        Assert.assertEquals(55, (int) linkedList.view().reduce(0, Integer::sum));
+        Assert.assertEquals(Optional.of(3628800), linkedList.view().reduce((a, b) -> a * b));
+        Assert.assertFalse(linkedList.filter(value -> value > 10).reduce(Integer::sum).isPresent());
+
+        linkedList.reverseLazily();
+        linkedList.limit(3).forEach(visited::add);
+
+        Assert.assertEquals(Arrays.asList(10, 9, 8), visited);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testConcurrentModification() {
+        linkedList.view().forEach(linkedList::add);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeLimit() {
+        linkedList.limit(-1);
+    }
+
+    private Integer visit(Integer value) {
+        visited.add(value);
+
+        return value;
+    }
+}
@@ -0,0 +1,122 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Test class.
+ *
+ * @author Matyas Ember
+ */
+public class LockCouplingLinkedListTest {
+
+    private static final int THREADS = 8;
+
+    private static final int VALUES_PER_THREAD = 500;
+
+    private LockCouplingLinkedList<Integer> linkedList;
+
+    @Before
+    public void init() {
+        linkedList = new LockCouplingLinkedList<>();
+    }
+
+    @Test
+    public void testAddAndGet() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+        linkedList.addFirst(0);
+
+        Assert.assertEquals(5, linkedList.size());
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(i, (int) linkedList.get(i));
+        }
+
+        Assert.assertTrue(linkedList.contains(4));
+        Assert.assertFalse(linkedList.contains(5));
+    }
+
+    @Test
+    public void testRemove() {
+        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
+        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
+
+        Assert.assertEquals(1, (int) linkedList.remove(0));
+        Assert.assertTrue(linkedList.removeFirstOccurrence(3));
+        Assert.assertTrue(linkedList.removeLastOccurrence(2));
+        Assert.assertFalse(linkedList.removeLastOccurrence(7));
+
+        Assert.assertEquals(3, linkedList.size());
+        Assert.assertEquals(2, (int) linkedList.get(0));
+        Assert.assertEquals(1, (int) linkedList.get(1));
+        Assert.assertEquals(3, (int) linkedList.get(2));
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetExceptionGreaterThanMaxIndex() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+
+        linkedList.get(4);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testRemoveExceptionGreaterThanMaxIndex() {
+        linkedList.remove(0);
+    }
+
+    @Test
+    public void testConcurrentMidListRemovals() throws Exception {
+        IntStream.range(0, THREADS * VALUES_PER_THREAD).forEach(linkedList::add);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int from = t * VALUES_PER_THREAD;
+
+            results.add(executor.submit(() -> {
+                start.await();
+
+                for (int i = 0; i < VALUES_PER_THREAD; i++) {
+                    int value = from + i;
+                    boolean removed;
+
+                    if (i % 3 == 0) {
+                        removed = linkedList.removeFirstOccurrence(value);
+                    } else if (i % 3 == 1) {
+                        removed = linkedList.removeLastOccurrence(value);
+                    } else {
+                        linkedList.add(-value);
+                        removed = linkedList.removeFirstOccurrence(value) && linkedList.removeLastOccurrence(-value);
+                    }
+
+                    Assert.assertTrue(removed);
+                }
+
+                return null;
+            }));
+        }
+
+        start.countDown();
+
+        for (Future<?> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+
+        executor.shutdown();
+
+        Assert.assertEquals(0, linkedList.size());
+        Assert.assertTrue(linkedList.isEmpty());
+    }
+}
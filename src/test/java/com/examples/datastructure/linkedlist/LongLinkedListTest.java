@@ -0,0 +1,54 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.stream.LongStream;
+
+/**
+ * Test class.
+ *
+ * @author Matyas Ember
+ */
+public class LongLinkedListTest {
+
+    private LongLinkedList linkedList;
+
+    @Before
+    public void init() {
+        linkedList = new LongLinkedList();
+    }
+
+    @Test
+    public void testAddAndGet() {
+        LongStream.rangeClosed(1, 20).map(value -> value << 40).forEach(linkedList::add);
+        linkedList.addFirst(-1L);
+
+        Assert.assertEquals(21, linkedList.size());
+        Assert.assertEquals(-1L, linkedList.getFirst());
+        Assert.assertEquals(20L << 40, linkedList.getLast());
+        Assert.assertEquals(10L << 40, linkedList.get(10));
+    }
+
+    @Test
+    public void testIndexOfAndRemove() {
+        LongStream.rangeClosed(1, 4).forEach(linkedList::add);
+        linkedList.add(2L);
+
+        Assert.assertEquals(1, linkedList.indexOf(2L));
+        Assert.assertEquals(4, linkedList.lastIndexOf(2L));
+        Assert.assertTrue(linkedList.removeFirstOccurrence(2L));
+        Assert.assertEquals(3L, linkedList.remove(1));
+        Assert.assertArrayEquals(new long[]{1L, 4L, 2L}, linkedList.toArray());
+    }
+
+    @Test
+    public void testReverse() {
+        LongStream.rangeClosed(1, 4).forEach(linkedList::add);
+
+        linkedList.reverse();
+
+        Assert.assertArrayEquals(new long[]{4L, 3L, 2L, 1L}, linkedList.toArray());
+    }
+}
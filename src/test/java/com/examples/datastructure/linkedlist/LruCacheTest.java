@@ -0,0 +1,117 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class.
+ *
+ * @author Matyas Ember
+ */
+public class LruCacheTest {
+
+    private final List<String> evicted = new ArrayList<>();
+
+    private LruCache<Integer, String> cache;
+
+    @Before
+    public void init() {
+        cache = new LruCache<>(3, (key, value) -> evicted.add(key + "=" + value));
+    }
+
+    @Test
+    public void testPutAndGet() {
+        Assert.assertNull(cache.put(1, "a"));
+        Assert.assertNull(cache.put(2, "b"));
+        Assert.assertEquals("a", cache.put(1, "c"));
+
+        Assert.assertEquals("c", cache.get(1));
+        Assert.assertEquals("b", cache.get(2));
+        Assert.assertNull(cache.get(3));
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(3, cache.capacity());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+        cache.get(1);
+        cache.put(4, "d");
+
+        Assert.assertFalse(cache.containsKey(2));
+        Assert.assertTrue(cache.containsKey(1));
+
+
+        cache.put(3, "e");
+        cache.put(5, "f");
+
+        Assert.assertFalse(cache.containsKey(1));
+        Assert.assertEquals(3, cache.size());
+        Assert.assertEquals(2, cache.evictionCount());
+        Assert.assertEquals("[2=b, 1=a]", evicted.toString());
+    }
+
+    @Test
+    public void testStatistics() {
+        cache.put(1, "a");
+        cache.get(1);
+        cache.get(1);
+        cache.get(2);
+        cache.containsKey(2);
+
+        Assert.assertEquals(2, cache.hitCount());
+        Assert.assertEquals(1, cache.missCount());
+        Assert.assertEquals(0, cache.evictionCount());
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.put(3, "c");
+
+        Assert.assertEquals("c", cache.remove(3));
+        Assert.assertNull(cache.remove(3));
+        Assert.assertEquals("a", cache.remove(1));
+
+        cache.put(4, "d");
+        cache.put(5, "e");
+        cache.put(6, "f");
+
+        Assert.assertEquals("[2=b]", evicted.toString());
+
+
+        cache.clear();
+
+        Assert.assertEquals(0, cache.size());
+        Assert.assertNull(cache.get(5));
+
+
+        cache.put(7, "g");
+
+        Assert.assertEquals("g", cache.get(7));
+    }
+
+    @Test
+    public void testCapacityOne() {
+        LruCache<Integer, String> single = new LruCache<>(1);
+
+        single.put(1, "a");
+        single.put(2, "b");
+
+        Assert.assertNull(single.get(1));
+        Assert.assertEquals("b", single.get(2));
+        Assert.assertEquals(1, single.evictionCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExceptionZeroCapacity() {
+        new LruCache<Integer, String>(0);
+    }
+}
@@ -0,0 +1,251 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Test class.
+ *
+ * @author Matyas Ember
+ */
+public class OffHeapLinkedListTest {
+
+    private OffHeapLinkedList<Integer> linkedList;
+
+    @Before
+    public void init() {
+        linkedList = new OffHeapLinkedList<>(ValueCodec.INTEGER, Integer.BYTES);
+    }
+
+    @Test
+    public void testAddAndGet() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+        linkedList.addFirst(0);
+        linkedList.addLast(5);
+
+        Assert.assertEquals(6, linkedList.size());
+        Assert.assertEquals(0, (int) linkedList.getFirst());
+        Assert.assertEquals(5, (int) linkedList.getLast());
+
+        for (int i = 0; i < 6; i++) {
+            Assert.assertEquals(i, (int) linkedList.get(i));
+        }
+
+        Assert.assertTrue(linkedList.contains(3));
+        Assert.assertEquals(-1, linkedList.indexOf(6));
+    }
+
+    @Test
+    public void testRemove() {
+        IntStream.rangeClosed(1, 5).forEach(linkedList::add);
+
+        Assert.assertEquals(3, (int) linkedList.remove(2));
+        Assert.assertEquals(1, (int) linkedList.removeFirst());
+        Assert.assertEquals(5, (int) linkedList.removeLast());
+        Assert.assertEquals(2, linkedList.size());
+
+        linkedList.add(6);
+
+        Assert.assertEquals(2, (int) linkedList.get(0));
+        Assert.assertEquals(6, (int) linkedList.get(2));
+
+        linkedList.clear();
+
+        Assert.assertTrue(linkedList.isEmpty());
+        Assert.assertNull(linkedList.getFirst());
+        Assert.assertNull(linkedList.removeFirst());
+        Assert.assertNull(linkedList.removeLast());
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetExceptionSizeIndex() {
+        linkedList.add(1);
+        linkedList.get(1);
+    }
+
+    @Test
+    public void testReverse() {
+        IntStream.rangeClosed(1, 4).forEach(linkedList::add);
+
+        linkedList.reverse();
+        linkedList.remove(1);
+        linkedList.add(0);
+        linkedList.addFirst(5);
+
+        List<Integer> values = new ArrayList<>();
+        linkedList.forEach(values::add);
+
+        Assert.assertEquals(java.util.Arrays.asList(5, 4, 2, 1, 0), values);
+
+        linkedList.reverse();
+
+        Assert.assertEquals(0, (int) linkedList.getFirst());
+        Assert.assertEquals(5, (int) linkedList.get(4));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        IntStream.rangeClosed(1, 6).forEach(linkedList::add);
+
+        for (Iterator<Integer> iterator = linkedList.iterator(); iterator.hasNext(); ) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        Assert.assertEquals(3, linkedList.size());
+        Assert.assertEquals(5, (int) linkedList.getLast());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
+
+        for (Integer value : linkedList) {
+            linkedList.add(value);
+        }
+    }
+
+    @Test
+    public void testSeveralSegments() {
+        IntStream.range(0, 200_000).forEach(linkedList::add);
+
+        Assert.assertEquals(200_000, linkedList.size());
+        Assert.assertEquals(70_000, (int) linkedList.get(70_000));
+        Assert.assertEquals(199_999, (int) linkedList.getLast());
+
+        long sum = 0;
+
+        for (int value : linkedList) {
+            sum += value;
+        }
+
+        Assert.assertEquals(199_999L * 200_000 / 2, sum);
+    }
+
+    @Test
+    public void testStrings() {
+        OffHeapLinkedList<String> strings = new OffHeapLinkedList<>(ValueCodec.STRING, 16);
+
+        strings.add("first");
+        strings.add("");
+        strings.addFirst("\u00e1rv\u00edz");
+
+        Assert.assertEquals("\u00e1rv\u00edz", strings.get(0));
+        Assert.assertEquals("", strings.getLast());
+
+        try {
+            strings.add("longer than twelve bytes");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(3, strings.size());
+        }
+
+        strings.add("twelve bytes");
+
+        Assert.assertEquals("twelve bytes", strings.getLast());
+        Assert.assertEquals(4, strings.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExceptionZeroValueSize() {
+        new OffHeapLinkedList<>(ValueCodec.INTEGER, 0);
+    }
+
+    @Test
+    public void testRandomOperationsAgainstArrayList() {
+        Random random = new Random(20);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(1000);
+
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    linkedList.add(value);
+                    expected.add(value);
+                    break;
+                case 2:
+                    linkedList.addFirst(value);
+                    expected.add(0, value);
+                    break;
+                case 3:
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assert.assertEquals(expected.remove(index), linkedList.remove(index));
+                    }
+                    break;
+                case 4:
+                    Collections.reverse(expected);
+                    linkedList.reverse();
+                    break;
+                default:
+                    Assert.assertEquals(expected.indexOf(value), linkedList.indexOf(value));
+            }
+
+            Assert.assertEquals(expected.size(), linkedList.size());
+        }
+
+        List<Integer> actual = new ArrayList<>();
+        linkedList.forEach(actual::add);
+
+        Assert.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testAddExceptionNullWithBuiltInCodec() {
+        linkedList.add(1);
+
+        try {
+            linkedList.add(null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+            Assert.assertEquals(1, linkedList.size());
+        }
+
+        linkedList.add(2);
+
+        Assert.assertEquals(2, (int) linkedList.getLast());
+    }
+
+    @Test
+    public void testNullElementsWithNullableCodec() {
+        ValueCodec<Integer> nullable = new ValueCodec<Integer>() {
+
+            @Override
+            public void encode(Integer value, ByteBuffer buffer) {
+                buffer.put((byte) (value == null ? 0 : 1));
+                buffer.putInt(value == null ? 0 : value);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer buffer) {
+                boolean present = buffer.get() != 0;
+                int value = buffer.getInt();
+
+                return present ? value : null;
+            }
+        };
+
+        OffHeapLinkedList<Integer> nullableList = new OffHeapLinkedList<>(nullable, 1 + Integer.BYTES);
+        nullableList.add(1);
+        nullableList.add(null);
+        nullableList.add(2);
+
+        Assert.assertTrue(nullableList.contains(null));
+        Assert.assertEquals(1, nullableList.indexOf(null));
+        Assert.assertEquals(2, nullableList.indexOf(2));
+        Assert.assertNull(nullableList.get(1));
+    }
+}
@@ -0,0 +1,130 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Test class.
+ *
+ * @author Matyas Ember
+ */
+public class PersistentLinkedListTest {
+
+    private PersistentLinkedList<Integer> linkedList;
+
+    @Before
+    public void init() {
+        linkedList = PersistentLinkedList.empty();
+    }
+
+    @Test
+    public void testAddFirstKeepsOldVersions() {
+        PersistentLinkedList<Integer> one = linkedList.addFirst(1);
+        PersistentLinkedList<Integer> two = one.addFirst(2);
+        PersistentLinkedList<Integer> three = one.addFirst(3);
+
+        Assert.assertTrue(linkedList.isEmpty());
+        Assert.assertEquals(1, one.size());
+        Assert.assertEquals(Arrays.asList(2, 1), two.stream().collect(Collectors.toList()));
+        Assert.assertEquals(Arrays.asList(3, 1), three.stream().collect(Collectors.toList()));
+        Assert.assertSame(one, two.removeFirst());
+        Assert.assertSame(one, three.removeFirst());
+    }
+
+    @Test
+    public void testRemoveFirst() {
+        PersistentLinkedList<Integer> list = linkedList.addFirst(2).addFirst(1);
+
+        Assert.assertEquals(1, (int) list.getFirst());
+        Assert.assertEquals(2, (int) list.removeFirst().getFirst());
+        Assert.assertTrue(list.removeFirst().removeFirst().isEmpty());
+        Assert.assertTrue(linkedList.removeFirst().isEmpty());
+        Assert.assertNull(linkedList.getFirst());
+    }
+
+    @Test
+    public void testGetAndIndexOf() {
+        PersistentLinkedList<Integer> list = linkedList;
+
+        for (int i = 4; i >= 0; i--) {
+            list = list.addFirst(i);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(i, (int) list.get(i));
+            Assert.assertEquals(i, list.indexOf(i));
+        }
+
+        Assert.assertTrue(list.contains(4));
+        Assert.assertFalse(list.contains(5));
+        Assert.assertEquals(-1, list.indexOf(5));
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetExceptionSizeIndex() {
+        linkedList.addFirst(1).get(1);
+    }
+
+    @Test
+    public void testReverse() {
+        PersistentLinkedList<Integer> list = linkedList.addFirst(3).addFirst(2).addFirst(1);
+
+        Assert.assertEquals(Arrays.asList(3, 2, 1), list.reverse().stream().collect(Collectors.toList()));
+        Assert.assertEquals(Arrays.asList(1, 2, 3), list.stream().collect(Collectors.toList()));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorExceptionNoMoreElement() {
+        Iterator<Integer> iterator = linkedList.addFirst(1).iterator();
+
+        iterator.next();
+        iterator.next();
+    }
+
+    @Test
+    public void testConversions() {
+        LinkedList<Integer> mutable = new LinkedList<>();
+        IntStream.rangeClosed(1, 5).forEach(mutable::add);
+        mutable.reverseLazily();
+
+        PersistentLinkedList<Integer> persistent = mutable.toPersistent();
+        mutable.clear();
+
+        Assert.assertEquals(5, persistent.size());
+        Assert.assertEquals(Arrays.asList(5, 4, 3, 2, 1), persistent.stream().collect(Collectors.toList()));
+        Assert.assertEquals(Arrays.asList(5, 4, 3, 2, 1), LinkedList.fromPersistent(persistent));
+    }
+
+    @Test
+    public void testPublishThroughAtomicReference() throws InterruptedException {
+        AtomicReference<PersistentLinkedList<Integer>> current = new AtomicReference<>(linkedList);
+        Thread[] writers = new Thread[4];
+
+        for (int t = 0; t < writers.length; t++) {
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    int value = i;
+                    PersistentLinkedList<Integer> snapshot = current.updateAndGet(list -> list.addFirst(value));
+
+                    Assert.assertEquals(value, (int) snapshot.getFirst());
+                }
+            });
+            writers[t].start();
+        }
+
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        Assert.assertEquals(4000, current.get().size());
+        Assert.assertEquals(4000, current.get().stream().count());
+    }
+}
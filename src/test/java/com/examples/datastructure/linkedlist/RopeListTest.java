@@ -0,0 +1,275 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Test class.
+ *
+ * @author Matyas Ember
+ */
+public class RopeListTest {
+
+    private RopeList<Integer> linkedList;
+
+    @Before
+    public void init() {
+        linkedList = new RopeList<>(4);
+    }
+
+    @Test
+    public void testAddAndGet() {
+        IntStream.rangeClosed(1, 10).forEach(linkedList::add);
+        linkedList.addFirst(0);
+        linkedList.add(5, 50);
+
+        Assert.assertEquals(12, linkedList.size());
+        Assert.assertEquals(0, (int) linkedList.getFirst());
+        Assert.assertEquals(10, (int) linkedList.getLast());
+        Assert.assertEquals(50, (int) linkedList.get(5));
+        Assert.assertEquals(5, (int) linkedList.get(6));
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4, 50, 5, 6, 7, 8, 9, 10), toList(linkedList));
+    }
+
+    @Test
+    public void testRemove() {
+        IntStream.rangeClosed(1, 10).forEach(linkedList::add);
+
+        Assert.assertEquals(4, (int) linkedList.remove(3));
+        Assert.assertEquals(1, (int) linkedList.removeFirst());
+        Assert.assertEquals(10, (int) linkedList.removeLast());
+        Assert.assertTrue(linkedList.removeFirstOccurrence(7));
+        Assert.assertFalse(linkedList.removeLastOccurrence(7));
+        Assert.assertEquals(Arrays.asList(2, 3, 5, 6, 8, 9), toList(linkedList));
+
+        linkedList.clear();
+
+        Assert.assertTrue(linkedList.isEmpty());
+        Assert.assertNull(linkedList.getFirst());
+        Assert.assertNull(linkedList.removeFirst());
+        Assert.assertNull(linkedList.removeLast());
+    }
+
+    @Test
+    public void testIndexOfAndLastIndexOf() {
+        IntStream.of(1, 2, 3, 2, 1).forEach(linkedList::add);
+
+        Assert.assertEquals(1, linkedList.indexOf(2));
+        Assert.assertEquals(3, linkedList.lastIndexOf(2));
+        Assert.assertEquals(-1, linkedList.indexOf(4));
+        Assert.assertTrue(linkedList.contains(3));
+        Assert.assertFalse(linkedList.contains(4));
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetExceptionSizeIndex() {
+        linkedList.add(1);
+        linkedList.get(1);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testAddExceptionGreaterThanSizeIndex() {
+        linkedList.add(1, 1);
+    }
+
+    @Test
+    public void testReverse() {
+        IntStream.rangeClosed(1, 10).forEach(linkedList::add);
+
+        linkedList.reverse();
+        linkedList.add(3, 0);
+        linkedList.moveLastToFront();
+
+        Assert.assertEquals(Arrays.asList(1, 10, 9, 8, 0, 7, 6, 5, 4, 3, 2), toList(linkedList));
+
+        linkedList.reverse();
+
+        Assert.assertEquals(2, (int) linkedList.getFirst());
+        Assert.assertEquals(1, (int) linkedList.getLast());
+    }
+
+    @Test
+    public void testSplitAndConcat() {
+        IntStream.range(0, 20).forEach(linkedList::add);
+
+        RopeList<Integer> rest = linkedList.split(7);
+
+        Assert.assertEquals(7, linkedList.size());
+        Assert.assertEquals(13, rest.size());
+        Assert.assertEquals(6, (int) linkedList.getLast());
+        Assert.assertEquals(7, (int) rest.getFirst());
+
+        rest.reverse();
+        linkedList.concat(rest);
+
+        Assert.assertTrue(rest.isEmpty());
+        Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 19, 18, 17, 16, 15, 14, 13, 12, 11, 10, 9, 8, 7),
+                toList(linkedList));
+
+        Assert.assertTrue(linkedList.split(20).isEmpty());
+        Assert.assertEquals(20, linkedList.split(0).size());
+        Assert.assertTrue(linkedList.isEmpty());
+    }
+
+    @Test
+    public void testConcatDifferentChunkCapacity() {
+        RopeList<Integer> other = new RopeList<>(16);
+        IntStream.range(0, 16).forEach(other::add);
+        linkedList.add(-1);
+
+        linkedList.concat(other);
+        linkedList.split(9);
+        linkedList.add(3, 100);
+
+        Assert.assertEquals(Arrays.asList(-1, 0, 1, 100, 2, 3, 4, 5, 6, 7), toList(linkedList));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConcatExceptionSelf() {
+        linkedList.concat(linkedList);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
+
+        for (Integer value : linkedList) {
+            linkedList.add(value);
+        }
+    }
+
+    @Test
+    public void testRandomOperationsAgainstArrayList() {
+        Random random = new Random(22);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(100);
+
+            switch (random.nextInt(8)) {
+                case 0:
+                case 1:
+                case 2:
+                    int index = random.nextInt(expected.size() + 1);
+                    linkedList.add(index, value);
+                    expected.add(index, value);
+                    break;
+                case 3:
+                case 4:
+                    if (!expected.isEmpty()) {
+                        int removed = random.nextInt(expected.size());
+                        Assert.assertEquals(expected.remove(removed), linkedList.remove(removed));
+                    }
+                    break;
+                case 5:
+                    Collections.reverse(expected);
+                    linkedList.reverse();
+                    break;
+                case 6:
+                    int at = random.nextInt(expected.size() + 1);
+                    RopeList<Integer> rest = linkedList.split(at);
+                    List<Integer> expectedRest = new ArrayList<>(expected.subList(at, expected.size()));
+                    expected.subList(at, expected.size()).clear();
+
+                    Assert.assertEquals(expectedRest, toList(rest));
+
+                    if (random.nextBoolean()) {
+                        rest.reverse();
+                        Collections.reverse(expectedRest);
+                    }
+
+                    linkedList.concat(rest);
+                    expected.addAll(expectedRest);
+                    break;
+                default:
+                    if (!expected.isEmpty()) {
+                        int position = random.nextInt(expected.size());
+                        Assert.assertEquals(expected.get(position), linkedList.get(position));
+                    }
+            }
+
+            Assert.assertEquals(expected.size(), linkedList.size());
+        }
+
+        Assert.assertEquals(expected, toList(linkedList));
+    }
+
+    private static List<Integer> toList(RopeList<Integer> list) {
+        List<Integer> values = new ArrayList<>();
+        list.forEach(values::add);
+
+        return values;
+    }
+
+    @Test
+    public void testNullElements() {
+        linkedList.add(1);
+        linkedList.add(null);
+        linkedList.add(2);
+        linkedList.add(null);
+
+        Assert.assertTrue(linkedList.contains(2));
+        Assert.assertTrue(linkedList.contains(null));
+        Assert.assertFalse(linkedList.contains(3));
+        Assert.assertEquals(1, linkedList.indexOf(null));
+        Assert.assertEquals(3, linkedList.lastIndexOf(null));
+        Assert.assertEquals(2, linkedList.indexOf(2));
+
+        Assert.assertTrue(linkedList.removeLastOccurrence(null));
+        Assert.assertTrue(linkedList.removeFirstOccurrence(null));
+        Assert.assertFalse(linkedList.contains(null));
+        Assert.assertEquals(2, linkedList.size());
+    }
+
+    @Test
+    public void testConcurrentReadersOfReversedList() throws Exception {
+        IntStream.range(0, 5_000).forEach(linkedList::add);
+        linkedList.reverse();
+
+        // the reverse flags are still on the root, the readers only combine them
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> readers = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < 4; t++) {
+                int seed = t;
+
+                readers.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+
+                    for (int i = 0; i < 5_000; i++) {
+                        int index = random.nextInt(5_000);
+
+                        Assert.assertEquals(4_999 - index, (int) linkedList.get(index));
+                        Assert.assertEquals(index, linkedList.indexOf(4_999 - index));
+                    }
+
+                    int expected = 4_999;
+
+                    for (int value : linkedList) {
+                        Assert.assertEquals(expected--, value);
+                    }
+                }));
+            }
+
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class.
+ *
+ * @author Matyas Ember
+ */
+public class SortedLinkedListTest {
+
+    private SortedLinkedList<Integer> linkedList;
+
+    @Before
+    public void init() {
+        linkedList = new SortedLinkedList<>();
+    }
+
+    @Test
+    public void testAddKeepsOrder() {
+        linkedList.add(3);
+        linkedList.add(1);
+        linkedList.add(2);
+        linkedList.add(1);
+
+        assertElements(1, 1, 2, 3);
+        Assert.assertEquals(1, (int) linkedList.getFirst());
+        Assert.assertEquals(3, (int) linkedList.getLast());
+    }
+
+    @Test
+    public void testIndexOf() {
+        for (int value : new int[]{5, 2, 8, 2, 5, 5}) {
+            linkedList.add(value);
+        }
+
+        Assert.assertEquals(0, linkedList.indexOf(2));
+        Assert.assertEquals(1, linkedList.lastIndexOf(2));
+        Assert.assertEquals(2, linkedList.indexOf(5));
+        Assert.assertEquals(4, linkedList.lastIndexOf(5));
+        Assert.assertEquals(-1, linkedList.indexOf(3));
+        Assert.assertEquals(-1, linkedList.lastIndexOf(9));
+        Assert.assertTrue(linkedList.contains(8));
+        Assert.assertFalse(linkedList.contains(1));
+    }
+
+    @Test
+    public void testRemove() {
+        for (int value : new int[]{5, 2, 8, 2, 5}) {
+            linkedList.add(value);
+        }
+
+        Assert.assertEquals(5, (int) linkedList.remove(2));
+        Assert.assertTrue(linkedList.removeFirstOccurrence(2));
+        Assert.assertTrue(linkedList.removeLastOccurrence(8));
+        Assert.assertFalse(linkedList.removeFirstOccurrence(8));
+
+        assertElements(2, 5);
+
+
+        linkedList.removeFirst();
+        linkedList.removeLast();
+        linkedList.removeLast();
+
+        assertElements();
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetExceptionGreaterThanMaxIndex() {
+        linkedList.add(1);
+
+        linkedList.get(1);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAddExceptionNull() {
+        linkedList.add(null);
+    }
+
+    @Test
+    public void testSubList() {
+        for (int value = 20; value > 0; value -= 2) {
+            linkedList.add(value);
+        }
+
+        Assert.assertEquals("6 8 10 ", join(linkedList.subList(5, 12)));
+        Assert.assertEquals("2 4 ", join(linkedList.subList(2, 6)));
+        Assert.assertEquals("", join(linkedList.subList(21, 30)));
+    }
+
+    @Test
+    public void testClear() {
+        for (int value = 0; value < 100; value++) {
+            linkedList.add(value);
+        }
+
+        linkedList.clear();
+
+        assertElements();
+
+
+        linkedList.add(1);
+
+        assertElements(1);
+    }
+
+    @Test
+    public void testRandomOperationsAgainstSortedArrayList() {
+        Random random = new Random(13);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 20_000; step++) {
+            int value = random.nextInt(500);
+
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    linkedList.add(value);
+                    int position = Collections.binarySearch(expected, value + 1);
+                    position = position >= 0 ? position : -position - 1;
+                    while (position > 0 && expected.get(position - 1) > value) {
+                        position--;
+                    }
+                    expected.add(position, value);
+                    break;
+                case 2:
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assert.assertEquals(expected.remove(index), linkedList.remove(index));
+                    }
+                    break;
+                case 3:
+                    Assert.assertEquals(expected.remove((Integer) value), linkedList.removeFirstOccurrence(value));
+                    break;
+                case 4:
+                    int last = expected.lastIndexOf(value);
+                    if (last >= 0) {
+                        expected.remove(last);
+                    }
+                    Assert.assertEquals(last >= 0, linkedList.removeLastOccurrence(value));
+                    break;
+                default:
+                    Assert.assertEquals(expected.indexOf(value), linkedList.indexOf(value));
+                    Assert.assertEquals(expected.lastIndexOf(value), linkedList.lastIndexOf(value));
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assert.assertEquals(expected.get(index), linkedList.get(index));
+                    }
+            }
+
+            Assert.assertEquals(expected.size(), linkedList.size());
+        }
+
+        List<Integer> actual = new ArrayList<>();
+        linkedList.forEach(actual::add);
+
+        Assert.assertEquals(expected, actual);
+    }
+
+    private static String join(LinkedList<Integer> list) {
+        StringBuilder builder = new StringBuilder();
+
+        for (int value : list) {
+            builder.append(value).append(' ');
+        }
+
+        return builder.toString();
+    }
+
+    @Test
+    public void testConcurrentReaders() throws Exception {
+        for (int i = 0; i < 10_000; i++) {
+            linkedList.add(i * 2);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> readers = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < 4; t++) {
+                int seed = t;
+
+                readers.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+
+                    for (int i = 0; i < 50_000; i++) {
+                        int index = random.nextInt(10_000);
+
+                        Assert.assertEquals(index * 2, (int) linkedList.get(index));
+                        Assert.assertEquals(index, linkedList.indexOf(index * 2));
+                        Assert.assertEquals(index, linkedList.lastIndexOf(index * 2));
+                        Assert.assertFalse(linkedList.contains(index * 2 + 1));
+                    }
+                }));
+            }
+
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertElements(int... expected) {
+        Assert.assertEquals(expected.length, linkedList.size());
+        Assert.assertEquals(expected.length == 0, linkedList.isEmpty());
+
+        int i = 0;
+
+        for (int value : linkedList) {
+            Assert.assertEquals(expected[i], value);
+            Assert.assertEquals(expected[i], (int) linkedList.get(i));
+            i++;
+        }
+
+        Assert.assertEquals(expected.length, i);
+    }
+}
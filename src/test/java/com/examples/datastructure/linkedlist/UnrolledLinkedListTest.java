@@ -0,0 +1,212 @@
+package com.examples.datastructure.linkedlist;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Test class.
+ *
+ * @author Matyas Ember
+ */
+public class UnrolledLinkedListTest {
+
+    private UnrolledLinkedList<Integer> linkedList;
+
+    @Before
+    public void init() {
+        linkedList = new UnrolledLinkedList<>(4);
+    }
+
+    @Test
+    public void testAdd() {
+        IntStream.range(0, 10).forEach(linkedList::add);
+
+        Assert.assertEquals(10, linkedList.size());
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(i, (int) linkedList.get(i));
+        }
+    }
+
+    @Test
+    public void testAddFirst() {
+        IntStream.range(0, 10).forEach(linkedList::addFirst);
+
+        Assert.assertEquals(10, linkedList.size());
+        Assert.assertEquals(9, (int) linkedList.getFirst());
+        Assert.assertEquals(0, (int) linkedList.getLast());
+        Assert.assertEquals(4, (int) linkedList.get(5));
+    }
+
+    @Test
+    public void testIndexOf() {
+        IntStream.range(0, 10).forEach(linkedList::add);
+        linkedList.add(3);
+
+        Assert.assertEquals(3, linkedList.indexOf(3));
+        Assert.assertEquals(10, linkedList.lastIndexOf(3));
+        Assert.assertEquals(-1, linkedList.indexOf(11));
+        Assert.assertTrue(linkedList.contains(9));
+        Assert.assertFalse(linkedList.contains(-1));
+    }
+
+    @Test
+    public void testRemove() {
+        IntStream.range(0, 10).forEach(linkedList::add);
+
+        Assert.assertEquals(5, (int) linkedList.remove(5));
+        Assert.assertEquals(0, (int) linkedList.remove(0));
+        Assert.assertEquals(9, (int) linkedList.remove(7));
+
+        assertElements(1, 2, 3, 4, 6, 7, 8);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testRemoveExceptionGreaterThanMaxIndex() {
+        IntStream.range(0, 4).forEach(linkedList::add);
+
+        linkedList.remove(4);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testGetExceptionLessThanZeroIndex() {
+        IntStream.range(0, 4).forEach(linkedList::add);
+
+        linkedList.get(-1);
+    }
+
+    @Test
+    public void testRemoveOccurrence() {
+        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
+        IntStream.rangeClosed(1, 3).forEach(linkedList::add);
+
+        Assert.assertTrue(linkedList.removeFirstOccurrence(2));
+        Assert.assertTrue(linkedList.removeLastOccurrence(1));
+        Assert.assertFalse(linkedList.removeFirstOccurrence(5));
+
+        assertElements(1, 3, 2, 3);
+    }
+
+    @Test
+    public void testRemoveFirstAndLast() {
+        IntStream.range(0, 6).forEach(linkedList::add);
+
+        linkedList.removeFirst();
+        linkedList.removeLast();
+
+        assertElements(1, 2, 3, 4);
+
+
+        linkedList.clear();
+        linkedList.removeFirst();
+        linkedList.removeLast();
+
+        assertElements();
+    }
+
+    @Test
+    public void testReverse() {
+        IntStream.range(0, 10).forEach(linkedList::add);
+        linkedList.remove(2);
+
+        linkedList.reverse();
+
+        assertElements(9, 8, 7, 6, 5, 4, 3, 1, 0);
+    }
+
+    @Test
+    public void testMoveLastToFront() {
+        IntStream.range(0, 5).forEach(linkedList::add);
+
+        linkedList.moveLastToFront();
+
+        assertElements(4, 0, 1, 2, 3);
+    }
+
+    @Test
+    public void testRandomOperationsAgainstArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+
+        for (int step = 0; step < 10_000; step++) {
+            int value = random.nextInt(50);
+
+            switch (random.nextInt(7)) {
+                case 0:
+                case 1:
+                    linkedList.add(value);
+                    expected.add(value);
+                    break;
+                case 2:
+                    linkedList.addFirst(value);
+                    expected.add(0, value);
+                    break;
+                case 3:
+                    if (!expected.isEmpty()) {
+                        int index = random.nextInt(expected.size());
+                        Assert.assertEquals(expected.remove(index), linkedList.remove(index));
+                    }
+                    break;
+                case 4:
+                    Assert.assertEquals(expected.remove((Integer) value), linkedList.removeFirstOccurrence(value));
+                    break;
+                case 5:
+                    Collections.reverse(expected);
+                    linkedList.reverse();
+                    break;
+                default:
+                    Assert.assertEquals(expected.indexOf(value), linkedList.indexOf(value));
+                    Assert.assertEquals(expected.lastIndexOf(value), linkedList.lastIndexOf(value));
+            }
+
+            Assert.assertEquals(expected.size(), linkedList.size());
+        }
+
+        List<Integer> actual = new ArrayList<>();
+        linkedList.forEach(actual::add);
+
+        Assert.assertEquals(expected, actual);
+    }
+
+    private void assertElements(int... expected) {
+        Assert.assertEquals(expected.length, linkedList.size());
+        Assert.assertEquals(expected.length == 0, linkedList.isEmpty());
+
+        int i = 0;
+
+        for (int value : linkedList) {
+            Assert.assertEquals(expected[i], value);
+            Assert.assertEquals(expected[i], (int) linkedList.get(i));
+            i++;
+        }
+
+        Assert.assertEquals(expected.length, i);
+    }
+
+    @Test
+    public void testNullElements() {
+        linkedList.add(1);
+        linkedList.add(null);
+        linkedList.add(2);
+        linkedList.add(null);
+
+        Assert.assertTrue(linkedList.contains(2));
+        Assert.assertTrue(linkedList.contains(null));
+        Assert.assertFalse(linkedList.contains(3));
+        Assert.assertEquals(1, linkedList.indexOf(null));
+        Assert.assertEquals(3, linkedList.lastIndexOf(null));
+        Assert.assertEquals(2, linkedList.indexOf(2));
+
+        Assert.assertTrue(linkedList.removeLastOccurrence(null));
+        Assert.assertTrue(linkedList.removeFirstOccurrence(null));
+        Assert.assertFalse(linkedList.contains(null));
+        Assert.assertEquals(2, linkedList.size());
+    }
+}
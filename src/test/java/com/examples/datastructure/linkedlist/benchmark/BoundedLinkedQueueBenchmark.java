@@ -0,0 +1,119 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.BoundedLinkedQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput benchmark of BoundedLinkedQueue against java.util.concurrent.LinkedBlockingQueue:
+ * each op is a round of 4 producer threads putting 10000 values each into a queue of the given capacity,
+ * consumed by the benchmark thread, one by one with take or in batches of up to 256 with drainTo.
+ * <p>
+ * The producers are platform threads from a fixed pool, virtual threads need Java 21 and the project targets Java 8.
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundedLinkedQueueBenchmark {
+
+    private static final int PRODUCERS = 4;
+
+    private static final int VALUES_PER_PRODUCER = 10000;
+
+    private static final int BATCH = 256;
+
+    @Param({"bounded", "jdk"})
+    private String queueType;
+
+    @Param({"16", "1024"})
+    private int capacity;
+
+    private BlockingQueue<Integer> queue;
+
+    private ExecutorService producers;
+
+    private final List<Integer> batch = new ArrayList<>(BATCH);
+
+    @Setup
+    public void setUp() {
+        queue = "bounded".equals(queueType) ? new BoundedLinkedQueue<>(capacity) : new LinkedBlockingQueue<>(capacity);
+        producers = Executors.newFixedThreadPool(PRODUCERS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        producers.shutdownNow();
+    }
+
+    @Benchmark
+    public long take() throws InterruptedException {
+        startProducers();
+
+        long sum = 0;
+
+        for (int i = 0; i < PRODUCERS * VALUES_PER_PRODUCER; i++) {
+            sum += queue.take();
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long drainTo() throws InterruptedException {
+        startProducers();
+
+        long sum = 0;
+        int received = 0;
+
+        while (received < PRODUCERS * VALUES_PER_PRODUCER) {
+            sum += queue.take();
+            received++;
+
+            batch.clear();
+            received += queue.drainTo(batch, BATCH);
+
+            for (int value : batch) {
+                sum += value;
+            }
+        }
+
+        return sum;
+    }
+
+    private void startProducers() {
+        for (int p = 0; p < PRODUCERS; p++) {
+            producers.execute(() -> {
+                try {
+                    for (int i = 0; i < VALUES_PER_PRODUCER; i++) {
+                        queue.put(i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+    }
+}
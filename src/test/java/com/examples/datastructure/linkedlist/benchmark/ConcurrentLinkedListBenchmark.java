@@ -0,0 +1,86 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.ConcurrentLinkedList;
+import com.examples.datastructure.linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of ConcurrentLinkedList against a LinkedList behind one global lock,
+ * for a multi-producer / multi-consumer queue (add + removeFirst per op).
+ * <p>
+ * main runs the benchmark with 1, 2, 4, 8, 16 and 32 threads.
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentLinkedListBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+
+    private static final int INITIAL_SIZE = 1000;
+
+    private static final Integer VALUE = 42;
+
+    private ConcurrentLinkedList<Integer> concurrentList;
+
+    private LinkedList<Integer> lockedList;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        concurrentList = new ConcurrentLinkedList<>();
+        lockedList = new LinkedList<>();
+
+        for (int i = 0; i < INITIAL_SIZE; i++) {
+            concurrentList.add(VALUE);
+            lockedList.add(VALUE);
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentList() {
+        concurrentList.add(VALUE);
+        return concurrentList.removeFirst();
+    }
+
+    @Benchmark
+    public Integer globalLock() {
+        synchronized (lockedList) {
+            lockedList.add(VALUE);
+            Integer first = lockedList.getFirst();
+            lockedList.removeFirst();
+            return first;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(ConcurrentLinkedListBenchmark.class.getName())
+                    .threads(threads)
+                    .build();
+
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of LinkedList with and without the hash index (setIndexed).
+ * <p>
+ * Memory overhead: the retained heap of the list, with and without the index, is printed at setup.
+ * Speed: contains of a random value and removeFirstOccurrence of a random value (added back at the tail).
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IndexedLinkedListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private Integer[] values;
+
+    private LinkedList<Integer> list;
+
+    @Setup
+    public void setUp() {
+        values = new Integer[size];
+
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+
+        long before = usedHeap();
+        list = new LinkedList<>();
+
+        for (Integer value : values) {
+            list.add(value);
+        }
+
+        long afterList = usedHeap();
+        list.setIndexed(indexed);
+        long afterIndex = usedHeap();
+
+        System.out.printf("%nretained heap: list %d B, hash index %d B (%.1f B per element)%n",
+                afterList - before, afterIndex - afterList, (afterIndex - afterList) / (double) size);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.contains(values[ThreadLocalRandom.current().nextInt(size)]);
+    }
+
+    @Benchmark
+    public boolean removeFirstOccurrence() {
+        Integer value = values[ThreadLocalRandom.current().nextInt(size)];
+        boolean removed = list.removeFirstOccurrence(value);
+        list.add(value);
+        return removed;
+    }
+}
@@ -0,0 +1,146 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the LinkedList operations compared to java.util.LinkedList and ArrayList.
+ * <p>
+ * The list keeps its size between invocations: every mutating benchmark undoes its own change,
+ * clear is measured together with refilling the list.
+ * <p>
+ * get, remove and removeFirstOccurrence take their positions from a pre-generated random sequence,
+ * so they measure the walk to the element and not the finger of LinkedList (the last accessed position);
+ * getFingerHit reads the same middle position every time, the case the finger turns into O(1).
+ * <p>
+ * Run with the gc profiler for allocation rates: mvn test-compile exec:exec -Pbenchmark
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LinkedListBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    @Param({"LinkedList", "java.util.LinkedList", "ArrayList"})
+    private String implementation;
+
+    private static final int POSITIONS = 1024;
+
+    private ListOperations list;
+
+    private final int[] positions = new int[POSITIONS];
+
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        list = ListOperations.create(implementation);
+        fill(list, size);
+
+        Random random = new Random(42);
+
+        for (int i = 0; i < POSITIONS; i++) {
+            positions[i] = random.nextInt(size);
+        }
+    }
+
+    private static void fill(ListOperations list, int size) {
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public int add() {
+        list.add(size);
+        list.removeLast();
+        return list.size();
+    }
+
+    @Benchmark
+    public int addFirst() {
+        list.addFirst(-1);
+        list.removeFirst();
+        return list.size();
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(nextPosition());
+    }
+
+    @Benchmark
+    public Integer getFingerHit() {
+        return list.get(size / 2);
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(size - 1);
+    }
+
+    @Benchmark
+    public int lastIndexOf() {
+        return list.lastIndexOf(0);
+    }
+
+    @Benchmark
+    public int remove() {
+        Integer removed = list.remove(nextPosition());
+        list.add(removed);
+        return list.size();
+    }
+
+    @Benchmark
+    public boolean removeFirstOccurrence() {
+        // the list always holds the values 0 .. size - 1 (in some order)
+        Integer value = nextPosition();
+        boolean removed = list.removeFirstOccurrence(value);
+        list.add(value);
+        return removed;
+    }
+
+    @Benchmark
+    public int reverse() {
+        list.reverse();
+        return list.size();
+    }
+
+    @Benchmark
+    public int moveLastToFront() {
+        list.moveLastToFront();
+        return list.size();
+    }
+
+    @Benchmark
+    public int clear() {
+        list.clear();
+        fill(list, size);
+        return list.size();
+    }
+
+    private int nextPosition() {
+        next = (next + 1) & (POSITIONS - 1);
+
+        return positions[next];
+    }
+}
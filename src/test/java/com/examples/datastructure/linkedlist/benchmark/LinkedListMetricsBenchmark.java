@@ -0,0 +1,68 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the cost of the LinkedList metrics: the same workload (get at a random index
+ * and indexOf of a random value) in a JVM without and with -Dlinkedlist.metrics=true.
+ * <p>
+ * disabled: the checks of the static final flag are folded away by the JIT, it should match the plain list;
+ * enabled: two System.nanoTime calls and a few LongAdder increments per operation.
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LinkedListMetricsBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private LinkedList<Integer> linkedList;
+
+    private int seed = 17;
+
+    @Setup
+    public void setUp() {
+        linkedList = new LinkedList<>();
+
+        for (int i = 0; i < size; i++) {
+            linkedList.add(i);
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    public int disabled() {
+        return workload();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dlinkedlist.metrics=true")
+    public int enabled() {
+        return workload();
+    }
+
+    private int workload() {
+        seed = seed * 1103515245 + 12345;
+        int index = (seed >>> 1) % size;
+
+        return linkedList.get(index) + linkedList.indexOf(size - 1 - index);
+    }
+}
@@ -0,0 +1,198 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.LinkedList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * ListOperations: common view of the benchmarked list implementations.
+ *
+ * @author Matyas Ember
+ */
+public abstract class ListOperations {
+
+    public abstract void add(Integer value);
+
+    public abstract void addFirst(Integer value);
+
+    public abstract Integer get(int index);
+
+    public abstract int indexOf(Integer value);
+
+    public abstract int lastIndexOf(Integer value);
+
+    public abstract Integer remove(int index);
+
+    public abstract void removeFirst();
+
+    public abstract void removeLast();
+
+    public abstract boolean removeFirstOccurrence(Integer value);
+
+    public abstract void reverse();
+
+    public abstract void moveLastToFront();
+
+    public abstract void clear();
+
+    public abstract int size();
+
+    public static ListOperations create(String implementation) {
+        switch (implementation) {
+            case "LinkedList":
+                return new OwnLinkedList();
+            case "java.util.LinkedList":
+                return new JdkList(new java.util.LinkedList<>());
+            case "ArrayList":
+                return new JdkList(new ArrayList<>());
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    private static final class OwnLinkedList extends ListOperations {
+
+        private final LinkedList<Integer> list = new LinkedList<>();
+
+        @Override
+        public void add(Integer value) {
+            list.add(value);
+        }
+
+        @Override
+        public void addFirst(Integer value) {
+            list.addFirst(value);
+        }
+
+        @Override
+        public Integer get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public int indexOf(Integer value) {
+            return list.indexOf(value);
+        }
+
+        @Override
+        public int lastIndexOf(Integer value) {
+            return list.lastIndexOf(value);
+        }
+
+        @Override
+        public Integer remove(int index) {
+            return list.remove(index);
+        }
+
+        @Override
+        public void removeFirst() {
+            list.removeFirst();
+        }
+
+        @Override
+        public void removeLast() {
+            list.removeLast();
+        }
+
+        @Override
+        public boolean removeFirstOccurrence(Integer value) {
+            return list.removeFirstOccurrence(value);
+        }
+
+        @Override
+        public void reverse() {
+            list.reverse();
+        }
+
+        @Override
+        public void moveLastToFront() {
+            list.moveLastToFront();
+        }
+
+        @Override
+        public void clear() {
+            list.clear();
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
+
+    private static final class JdkList extends ListOperations {
+
+        private final List<Integer> list;
+
+        private JdkList(List<Integer> list) {
+            this.list = list;
+        }
+
+        @Override
+        public void add(Integer value) {
+            list.add(value);
+        }
+
+        @Override
+        public void addFirst(Integer value) {
+            list.add(0, value);
+        }
+
+        @Override
+        public Integer get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public int indexOf(Integer value) {
+            return list.indexOf(value);
+        }
+
+        @Override
+        public int lastIndexOf(Integer value) {
+            return list.lastIndexOf(value);
+        }
+
+        @Override
+        public Integer remove(int index) {
+            return list.remove(index);
+        }
+
+        @Override
+        public void removeFirst() {
+            list.remove(0);
+        }
+
+        @Override
+        public void removeLast() {
+            list.remove(list.size() - 1);
+        }
+
+        @Override
+        public boolean removeFirstOccurrence(Integer value) {
+            return list.remove(value);
+        }
+
+        @Override
+        public void reverse() {
+            Collections.reverse(list);
+        }
+
+        @Override
+        public void moveLastToFront() {
+            list.add(0, list.remove(list.size() - 1));
+        }
+
+        @Override
+        public void clear() {
+            list.clear();
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
+}
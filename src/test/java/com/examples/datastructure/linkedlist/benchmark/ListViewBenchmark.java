@@ -0,0 +1,120 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of a map / filter / map chain summed up, and of the same chain cut by limit(10):
+ * <p>
+ * eager: a new LinkedList built for every step;
+ * view: LinkedList.view, one walk of the chain without intermediate lists;
+ * stream: LinkedList.stream for reference.
+ * <p>
+ * Run with -prof gc to see the allocation of the intermediate lists.
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListViewBenchmark {
+
+    private static final int LIMIT = 10;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private LinkedList<Integer> linkedList;
+
+    @Setup
+    public void setUp() {
+        linkedList = new LinkedList<>();
+
+        for (int i = 0; i < size; i++) {
+            linkedList.add(i);
+        }
+    }
+
+    @Benchmark
+    public long eager() {
+        LinkedList<Integer> mapped = new LinkedList<>();
+
+        for (Integer value : linkedList) {
+            mapped.add(value * 3);
+        }
+
+        LinkedList<Integer> filtered = new LinkedList<>();
+
+        for (Integer value : mapped) {
+            if (value % 2 == 0) {
+                filtered.add(value);
+            }
+        }
+
+        long sum = 0;
+
+        for (Integer value : filtered) {
+            sum += value + 1;
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long view() {
+        return linkedList.map(value -> value * 3).filter(value -> value % 2 == 0).map(value -> value + 1L)
+                .reduce(0L, Long::sum);
+    }
+
+    @Benchmark
+    public long stream() {
+        return linkedList.stream().map(value -> value * 3).filter(value -> value % 2 == 0).mapToLong(value -> value + 1L)
+                .sum();
+    }
+
+    @Benchmark
+    public long eagerLimit() {
+        LinkedList<Integer> mapped = new LinkedList<>();
+
+        for (Integer value : linkedList) {
+            mapped.add(value * 3);
+        }
+
+        LinkedList<Integer> filtered = new LinkedList<>();
+
+        for (Integer value : mapped) {
+            if (value % 2 == 0) {
+                filtered.add(value);
+            }
+        }
+
+        long sum = 0;
+
+        for (int i = 0; i < LIMIT && i < filtered.size(); i++) {
+            sum += filtered.get(i) + 1;
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long viewLimit() {
+        return linkedList.map(value -> value * 3).filter(value -> value % 2 == 0).limit(LIMIT).map(value -> value + 1L)
+                .reduce(0L, Long::sum);
+    }
+}
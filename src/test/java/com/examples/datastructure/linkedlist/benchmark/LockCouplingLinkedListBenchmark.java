@@ -0,0 +1,100 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.LinkedList;
+import com.examples.datastructure.linkedlist.LockCouplingLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of mid-list removals (removeFirstOccurrence of a random value, then adding it back)
+ * on LockCouplingLinkedList against a LinkedList behind one global lock.
+ * <p>
+ * main runs the benchmark with 1, 2, 4, 8, 16 and 32 threads.
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LockCouplingLinkedListBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private Integer[] values;
+
+    private LockCouplingLinkedList<Integer> lockCouplingList;
+
+    private LinkedList<Integer> lockedList;
+
+    @Setup
+    public void setUp() {
+        values = new Integer[size];
+        lockCouplingList = new LockCouplingLinkedList<>();
+        lockedList = new LinkedList<>();
+
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+            lockCouplingList.add(values[i]);
+            lockedList.add(values[i]);
+        }
+    }
+
+    @Benchmark
+    public boolean lockCoupling() {
+        Integer value = values[ThreadLocalRandom.current().nextInt(size)];
+
+        if (lockCouplingList.removeFirstOccurrence(value)) {
+            lockCouplingList.add(value);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Benchmark
+    public boolean globalLock() {
+        Integer value = values[ThreadLocalRandom.current().nextInt(size)];
+
+        synchronized (lockedList) {
+            if (lockedList.removeFirstOccurrence(value)) {
+                lockedList.add(value);
+                return true;
+            }
+
+            return false;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(LockCouplingLinkedListBenchmark.class.getName())
+                    .threads(threads)
+                    .build();
+
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.LruCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of LruCache against LinkedHashMap in access-order mode (evicting in removeEldestEntry).
+ * <p>
+ * Each op looks up a key from a skewed distribution and puts it on a miss;
+ * the key space is four times the capacity.
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LruCacheBenchmark {
+
+    private static final int KEY_COUNT = 1 << 16;
+
+    @Param({"1000", "100000"})
+    private int capacity;
+
+    private Integer[] keys;
+
+    private int next;
+
+    private LruCache<Integer, Integer> lruCache;
+
+    private Map<Integer, Integer> linkedHashMap;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(5);
+        keys = new Integer[KEY_COUNT];
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            double skewed = Math.pow(random.nextDouble(), 3);
+            keys[i] = (int) (skewed * capacity * 4);
+        }
+
+        lruCache = new LruCache<>(capacity);
+        linkedHashMap = new LinkedHashMap<Integer, Integer>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    private Integer nextKey() {
+        next = (next + 1) & (KEY_COUNT - 1);
+        return keys[next];
+    }
+
+    @Benchmark
+    public Integer lruCache() {
+        Integer key = nextKey();
+        Integer value = lruCache.get(key);
+
+        if (value == null) {
+            lruCache.put(key, key);
+            value = key;
+        }
+
+        return value;
+    }
+
+    @Benchmark
+    public Integer linkedHashMap() {
+        Integer key = nextKey();
+        Integer value = linkedHashMap.get(key);
+
+        if (value == null) {
+            linkedHashMap.put(key, key);
+            value = key;
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,116 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.LinkedList;
+import com.examples.datastructure.linkedlist.OffHeapLinkedList;
+import com.examples.datastructure.linkedlist.ValueCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of OffHeapLinkedList against LinkedList&lt;Integer&gt; storing the same values.
+ * <p>
+ * Heap usage: the retained heap of both filled lists is printed at setup,
+ * run with -prof gc to compare the GC time and the allocation of the benchmarks.
+ * Speed: build and sum over all elements.
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-XX:MaxDirectMemorySize=4g"})
+public class OffHeapLinkedListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private LinkedList<Integer> linkedList;
+
+    private OffHeapLinkedList<Integer> offHeapLinkedList;
+
+    @Setup
+    public void setUp() {
+        long before = usedHeap();
+        linkedList = buildLinkedList();
+        long afterLinkedList = usedHeap();
+        offHeapLinkedList = buildOffHeapLinkedList();
+        long afterOffHeapLinkedList = usedHeap();
+
+        System.out.printf("%nretained heap: LinkedList<Integer> %d B, OffHeapLinkedList %d B%n",
+                afterLinkedList - before, afterOffHeapLinkedList - afterLinkedList);
+    }
+
+    @TearDown
+    public void tearDown() {
+        linkedList = null;
+        offHeapLinkedList = null;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Benchmark
+    public LinkedList<Integer> buildLinkedList() {
+        LinkedList<Integer> list = new LinkedList<>();
+
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        return list;
+    }
+
+    @Benchmark
+    public OffHeapLinkedList<Integer> buildOffHeapLinkedList() {
+        OffHeapLinkedList<Integer> list = new OffHeapLinkedList<>(ValueCodec.INTEGER, Integer.BYTES);
+
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        return list;
+    }
+
+    @Benchmark
+    public long sumLinkedList() {
+        long sum = 0;
+
+        for (int value : linkedList) {
+            sum += value;
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long sumOffHeapLinkedList() {
+        long sum = 0;
+
+        for (int value : offHeapLinkedList) {
+            sum += value;
+        }
+
+        return sum;
+    }
+}
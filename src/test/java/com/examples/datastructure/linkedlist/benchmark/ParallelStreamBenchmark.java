@@ -0,0 +1,63 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark of sequential and parallel streams over LinkedList (filter/map/reduce).
+ * <p>
+ * The speedup depends on the cores of the machine, compare the scores on 8+ cores.
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParallelStreamBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    private int size;
+
+    private LinkedList<Integer> list;
+
+    @Setup
+    public void setUp() {
+        list = new LinkedList<>();
+
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public long sequential() {
+        return filterMapReduce(list.stream());
+    }
+
+    @Benchmark
+    public long parallel() {
+        return filterMapReduce(list.parallelStream());
+    }
+
+    private static long filterMapReduce(Stream<Integer> stream) {
+        return stream.filter(value -> value % 3 != 0)
+                .mapToLong(value -> (long) value * value % 1_000_003)
+                .sum();
+    }
+}
@@ -0,0 +1,121 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.LinkedList;
+import com.examples.datastructure.linkedlist.PersistentLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Benchmark of taking per-request snapshots: each op is one write (a push or a pop at the front, alternating)
+ * followed by a reader taking a snapshot and reading its first elements.
+ * <p>
+ * persistent: PersistentLinkedList published through an AtomicReference, write and snapshot are O(1);
+ * copyOnWrite: CopyOnWriteArrayList, the write copies the array, the snapshot is free;
+ * copySnapshot: LinkedList copied into an ArrayList for every snapshot.
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistentLinkedListBenchmark {
+
+    private static final int READ_COUNT = 8;
+
+    @Param({"100", "10000", "1000000"})
+    private int size;
+
+    private AtomicReference<PersistentLinkedList<Integer>> persistent;
+
+    private CopyOnWriteArrayList<Integer> copyOnWrite;
+
+    private LinkedList<Integer> linkedList;
+
+    private boolean push;
+
+    @Setup
+    public void setUp() {
+        linkedList = new LinkedList<>();
+
+        for (int i = 0; i < size; i++) {
+            linkedList.add(i);
+        }
+
+        persistent = new AtomicReference<>(linkedList.toPersistent());
+        copyOnWrite = new CopyOnWriteArrayList<>(linkedList);
+    }
+
+    @Benchmark
+    public long persistent() {
+        push = !push;
+
+        if (push) {
+            persistent.updateAndGet(list -> list.addFirst(-1));
+        } else {
+            persistent.updateAndGet(PersistentLinkedList::removeFirst);
+        }
+
+        return readFirst(persistent.get());
+    }
+
+    @Benchmark
+    public long copyOnWrite() {
+        push = !push;
+
+        if (push) {
+            copyOnWrite.add(0, -1);
+        } else {
+            copyOnWrite.remove(0);
+        }
+
+        return readFirst(copyOnWrite);
+    }
+
+    @Benchmark
+    public long copySnapshot() {
+        push = !push;
+
+        if (push) {
+            linkedList.addFirst(-1);
+        } else {
+            linkedList.removeFirst();
+        }
+
+        List<Integer> snapshot = new ArrayList<>(linkedList);
+
+        return readFirst(snapshot);
+    }
+
+    private static long readFirst(Iterable<Integer> snapshot) {
+        long sum = 0;
+        int count = 0;
+
+        for (Integer value : snapshot) {
+            if (count++ == READ_COUNT) {
+                break;
+            }
+
+            sum += value;
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,123 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.IntLinkedList;
+import com.examples.datastructure.linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of IntLinkedList against LinkedList&lt;Integer&gt; storing the same IDs.
+ * <p>
+ * Heap usage: the retained heap of both filled lists is printed at trial teardown,
+ * gc.alloc.rate.norm of the build benchmarks (-prof gc) is the allocation per list.
+ * Speed: build, contains and sum over all elements.
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PrimitiveLinkedListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private LinkedList<Integer> linkedList;
+
+    private IntLinkedList intLinkedList;
+
+    @Setup
+    public void setUp() {
+        long before = usedHeap();
+        linkedList = buildLinkedList();
+        long afterLinkedList = usedHeap();
+        intLinkedList = buildIntLinkedList();
+        long afterIntLinkedList = usedHeap();
+
+        System.out.printf("%nretained heap: LinkedList<Integer> %d B, IntLinkedList %d B%n",
+                afterLinkedList - before, afterIntLinkedList - afterLinkedList);
+    }
+
+    @TearDown
+    public void tearDown() {
+        linkedList = null;
+        intLinkedList = null;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Benchmark
+    public LinkedList<Integer> buildLinkedList() {
+        LinkedList<Integer> list = new LinkedList<>();
+
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        return list;
+    }
+
+    @Benchmark
+    public IntLinkedList buildIntLinkedList() {
+        IntLinkedList list = new IntLinkedList();
+
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsLinkedList() {
+        return linkedList.contains(size - 1);
+    }
+
+    @Benchmark
+    public boolean containsIntLinkedList() {
+        return intLinkedList.contains(size - 1);
+    }
+
+    @Benchmark
+    public long sumLinkedList() {
+        long sum = 0;
+
+        for (int value : linkedList) {
+            sum += value;
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long sumIntLinkedList() {
+        long[] sum = new long[1];
+
+        intLinkedList.forEach(value -> sum[0] += value);
+
+        return sum[0];
+    }
+}
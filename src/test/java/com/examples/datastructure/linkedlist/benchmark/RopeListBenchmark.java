@@ -0,0 +1,118 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.LinkedList;
+import com.examples.datastructure.linkedlist.RopeList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of RopeList against LinkedList and ArrayList on random positions:
+ * get, insert followed by a remove (the size stays the same), and split followed by concat.
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RopeListBenchmark {
+
+    private static final int INDEX_COUNT = 1 << 12;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private int[] indexes;
+
+    private int next;
+
+    private RopeList<Integer> ropeList;
+
+    private LinkedList<Integer> linkedList;
+
+    private List<Integer> arrayList;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(3);
+        indexes = new int[INDEX_COUNT];
+
+        for (int i = 0; i < INDEX_COUNT; i++) {
+            indexes[i] = random.nextInt(size);
+        }
+
+        ropeList = new RopeList<>();
+        linkedList = new LinkedList<>();
+        arrayList = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            ropeList.add(i);
+            linkedList.add(i);
+            arrayList.add(i);
+        }
+    }
+
+    private int nextIndex() {
+        next = (next + 1) & (INDEX_COUNT - 1);
+        return indexes[next];
+    }
+
+    @Benchmark
+    public Integer getRopeList() {
+        return ropeList.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer getLinkedList() {
+        return linkedList.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer getArrayList() {
+        return arrayList.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer insertRemoveRopeList() {
+        int index = nextIndex();
+        ropeList.add(index, -1);
+        return ropeList.remove(index);
+    }
+
+    @Benchmark
+    public Integer insertRemoveLinkedList() {
+        int index = nextIndex();
+        linkedList.add(index, -1);
+        return linkedList.remove(index);
+    }
+
+    @Benchmark
+    public Integer insertRemoveArrayList() {
+        int index = nextIndex();
+        arrayList.add(index, -1);
+        return arrayList.remove(index);
+    }
+
+    @Benchmark
+    public RopeList<Integer> splitConcatRopeList() {
+        RopeList<Integer> rest = ropeList.split(nextIndex());
+        ropeList.concat(rest);
+        return ropeList;
+    }
+}
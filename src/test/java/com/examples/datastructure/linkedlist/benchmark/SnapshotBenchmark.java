@@ -0,0 +1,86 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.LinkedList;
+import com.examples.datastructure.linkedlist.LinkedListSnapshot;
+import com.examples.datastructure.linkedlist.ValueCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark of a LinkedListSnapshot round trip (write, then read back through a memory mapping)
+ * against Java serialization of java.util.LinkedList through buffered file streams.
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SnapshotBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    private LinkedList<Integer> linkedList;
+
+    private java.util.LinkedList<Integer> jdkLinkedList;
+
+    private Path path;
+
+    @Setup
+    public void setUp() throws IOException {
+        linkedList = new LinkedList<>();
+        jdkLinkedList = new java.util.LinkedList<>();
+
+        IntStream.range(0, size).forEach(i -> {
+            linkedList.add(i);
+            jdkLinkedList.add(i);
+        });
+
+        path = Files.createTempFile("snapshot", ".bin");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public LinkedList<Integer> snapshot() throws IOException {
+        LinkedListSnapshot.write(linkedList, path, ValueCodec.INTEGER);
+        return LinkedListSnapshot.read(path, ValueCodec.INTEGER);
+    }
+
+    @Benchmark
+    public Object javaSerialization() throws IOException, ClassNotFoundException {
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeObject(jdkLinkedList);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            return in.readObject();
+        }
+    }
+}
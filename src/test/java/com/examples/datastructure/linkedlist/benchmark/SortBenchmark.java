@@ -0,0 +1,79 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.LinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the in-place merge sort of LinkedList against Collections.sort on java.util.LinkedList
+ * (which copies the list into an array, sorts it and writes it back).
+ * <p>
+ * Both lists are refilled with the same shuffled values before every invocation,
+ * run with -prof gc to compare the allocation of the two sorts.
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SortBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Integer[] values;
+
+    private LinkedList<Integer> linkedList;
+
+    private java.util.LinkedList<Integer> jdkLinkedList;
+
+    @Setup(Level.Trial)
+    public void createValues() {
+        Random random = new Random(1);
+        values = new Integer[size];
+
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void fillLists() {
+        linkedList = new LinkedList<>();
+        jdkLinkedList = new java.util.LinkedList<>();
+
+        for (Integer value : values) {
+            linkedList.add(value);
+            jdkLinkedList.add(value);
+        }
+    }
+
+    @Benchmark
+    public LinkedList<Integer> mergeSort() {
+        linkedList.sort();
+        return linkedList;
+    }
+
+    @Benchmark
+    public java.util.LinkedList<Integer> collectionsSort() {
+        Collections.sort(jdkLinkedList);
+        return jdkLinkedList;
+    }
+}
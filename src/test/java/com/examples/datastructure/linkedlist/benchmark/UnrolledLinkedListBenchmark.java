@@ -0,0 +1,124 @@
+package com.examples.datastructure.linkedlist.benchmark;
+
+import com.examples.datastructure.linkedlist.LinkedList;
+import com.examples.datastructure.linkedlist.UnrolledLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of UnrolledLinkedList against LinkedList.
+ * <p>
+ * Traversal speed: the iterate, get and indexOf scores.
+ * Memory: gc.alloc.rate.norm of the build benchmarks divided by size is the footprint per element
+ * (the values are the same boxed Integers in both lists), run with -prof gc.
+ *
+ * @author Matyas Ember
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UnrolledLinkedListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"16", "32", "64"})
+    private int chunkCapacity;
+
+    private Integer[] values;
+
+    private LinkedList<Integer> linkedList;
+
+    private UnrolledLinkedList<Integer> unrolledLinkedList;
+
+    @Setup
+    public void setUp() {
+        values = new Integer[size];
+        linkedList = new LinkedList<>();
+        unrolledLinkedList = new UnrolledLinkedList<>(chunkCapacity);
+
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+            linkedList.add(values[i]);
+            unrolledLinkedList.add(values[i]);
+        }
+    }
+
+    @Benchmark
+    public LinkedList<Integer> buildLinkedList() {
+        LinkedList<Integer> list = new LinkedList<>();
+
+        for (Integer value : values) {
+            list.add(value);
+        }
+
+        return list;
+    }
+
+    @Benchmark
+    public UnrolledLinkedList<Integer> buildUnrolledLinkedList() {
+        UnrolledLinkedList<Integer> list = new UnrolledLinkedList<>(chunkCapacity);
+
+        for (Integer value : values) {
+            list.add(value);
+        }
+
+        return list;
+    }
+
+    @Benchmark
+    public long iterateLinkedList() {
+        long sum = 0;
+
+        for (int value : linkedList) {
+            sum += value;
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateUnrolledLinkedList() {
+        long sum = 0;
+
+        for (int value : unrolledLinkedList) {
+            sum += value;
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public Integer getLinkedList() {
+        return linkedList.get(size / 3);
+    }
+
+    @Benchmark
+    public Integer getUnrolledLinkedList() {
+        return unrolledLinkedList.get(size / 3);
+    }
+
+    @Benchmark
+    public int indexOfLinkedList() {
+        return linkedList.indexOf(values[size - 1]);
+    }
+
+    @Benchmark
+    public int indexOfUnrolledLinkedList() {
+        return unrolledLinkedList.indexOf(values[size - 1]);
+    }
+}